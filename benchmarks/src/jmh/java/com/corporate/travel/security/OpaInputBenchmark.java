@@ -0,0 +1,109 @@
+package com.corporate.travel.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cost of building and serializing the OPA input document for one decision
+ *
+ * Mirrors what {@link OpaClient} and {@link HttpOpaPolicyEvaluator} do per
+ * authorization check before the request leaves the JVM.
+ */
+@State(Scope.Benchmark)
+public class OpaInputBenchmark {
+
+    private ObjectMapper objectMapper;
+    private OpaClient opaClient;
+    private SecurityContext employee;
+    private SecurityContext delegate;
+    private Map<String, Object> resource;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot injects
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // Only the input-building helpers are exercised; no evaluator or cache needed
+        opaClient = new OpaClient(null, objectMapper, null);
+        employee = SecurityContext.builder()
+            .userId("emp-001")
+            .username("emp-001@acme.example")
+            .tenantId("tenant-acme")
+            .roles(List.of("employee", "manager"))
+            .isDelegated(false)
+            .actorId("emp-001")
+            .subjectId("emp-001")
+            .attributes(Map.of())
+            .build();
+        delegate = SecurityContext.builder()
+            .userId("assistant-007")
+            .username("assistant-007@acme.example")
+            .tenantId("tenant-acme")
+            .roles(List.of("employee"))
+            .isDelegated(true)
+            .actorId("assistant-007")
+            .subjectId("emp-001")
+            .consentId("consent-42")
+            .purpose("book_travel")
+            .attributes(Map.of())
+            .build();
+        resource = Map.of(
+            "type", "booking",
+            "id", "018f3c9e-7a41-7cc2-9a51-2f1d3a6b9c10",
+            "tenant_id", "tenant-acme",
+            "user_id", "emp-001",
+            "status", "SUBMITTED");
+    }
+
+    @Benchmark
+    public Map<String, Object> buildOpaInput() {
+        return opaClient.buildOpaInput(employee, "view_booking", resource);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildDelegatedOpaInput() {
+        return opaClient.buildOpaInput(delegate, "create_booking", resource);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeOpaRequest() throws JsonProcessingException {
+        Map<String, Object> input = opaClient.buildOpaInput(employee, "view_booking", resource);
+        return objectMapper.writeValueAsBytes(Map.of("input", input));
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeDelegatedOpaRequest() throws JsonProcessingException {
+        Map<String, Object> input = opaClient.buildOpaInput(delegate, "create_booking", resource);
+        return objectMapper.writeValueAsBytes(Map.of("input", input));
+    }
+
+    /**
+     * Purpose-to-scope mapping, including the null and unknown cases
+     */
+    @State(Scope.Benchmark)
+    public static class Purposes {
+
+        @Param({"book_travel", "manage_team", "unknown", "none"})
+        public String purpose;
+
+        String value;
+
+        @Setup
+        public void setUp() {
+            value = "none".equals(purpose) ? null : purpose;
+        }
+    }
+
+    @Benchmark
+    public List<String> extractScopesFromPurpose(Purposes purposes) {
+        return OpaClient.extractScopesFromPurpose(purposes.value);
+    }
+}
@@ -0,0 +1,62 @@
+package com.corporate.travel.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cost of turning a decoded JWT into a {@link SecurityContext}
+ *
+ * Runs on every cache miss of {@link SecurityContextResolver}, i.e. the first
+ * request of every token.
+ */
+@State(Scope.Benchmark)
+public class SecurityContextBenchmark {
+
+    private Jwt employeeToken;
+    private Jwt delegatedToken;
+
+    @Setup
+    public void setUp() {
+        employeeToken = token("emp-001", Map.of());
+        delegatedToken = token("emp-002", Map.of(
+            "act", "{\"sub\":\"assistant-007\"}",
+            "act_sub", "assistant-007",
+            "consent_id", "consent-42",
+            "purpose", "book_travel"));
+    }
+
+    @Benchmark
+    public SecurityContext extractSecurityContext() {
+        return JwtAuthenticationConverter.extractSecurityContext(employeeToken);
+    }
+
+    @Benchmark
+    public SecurityContext extractDelegatedSecurityContext() {
+        return JwtAuthenticationConverter.extractSecurityContext(delegatedToken);
+    }
+
+    private static Jwt token(String subject, Map<String, Object> extraClaims) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("benchmark-token")
+            .header("alg", "RS256")
+            .header("kid", "benchmark-key")
+            .issuer("http://keycloak:8080/realms/corporate-travel")
+            .subject(subject)
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(300))
+            .claim("preferred_username", subject + "@acme.example")
+            .claim("tenant_id", "tenant-acme")
+            .claim("employee_id", subject.toUpperCase())
+            .claim("email", subject + "@acme.example")
+            .claim("realm_access", Map.of("roles", List.of("employee", "manager", "offline_access")))
+            .claims(claims -> claims.putAll(extraClaims))
+            .build();
+    }
+}
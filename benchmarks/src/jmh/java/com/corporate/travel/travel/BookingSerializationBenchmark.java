@@ -0,0 +1,100 @@
+package com.corporate.travel.travel;
+
+import com.corporate.travel.models.BookingStatus;
+import com.corporate.travel.travel.model.dto.BookingCursor;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.entity.Booking;
+import com.corporate.travel.travel.model.id.UuidV7;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of writing Booking responses as JSON
+ *
+ * Single booking (GET /api/bookings/{id}), a keyset page (GET /api/bookings)
+ * and a plain list (GET /api/bookings/visible), serialized with the same
+ * ObjectMapper defaults Spring Boot uses for responses.
+ */
+@State(Scope.Benchmark)
+public class BookingSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        booking = booking(0);
+    }
+
+    /**
+     * Listing sizes: the default page, the page cap and the default visible limit
+     */
+    @State(Scope.Benchmark)
+    public static class Listing {
+
+        @Param({"20", "100"})
+        public int size;
+
+        List<Booking> bookings;
+        BookingPage<Booking> page;
+
+        @Setup
+        public void setUp() {
+            bookings = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                bookings.add(booking(i));
+            }
+            Booking last = bookings.get(size - 1);
+            page = new BookingPage<>(bookings, new BookingCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeBooking() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(booking);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingPage(Listing listing) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listing.page);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingList(Listing listing) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listing.bookings);
+    }
+
+    private static Booking booking(int i) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30).minusMinutes(i);
+        return Booking.builder()
+            .id(UuidV7.generate())
+            .tenantId("tenant-acme")
+            .userId("emp-001")
+            .bookingType(i % 3 == 0 ? "FLIGHT" : i % 3 == 1 ? "HOTEL" : "CAR")
+            .destination("New York")
+            .startDate(LocalDate.of(2024, 4, 10))
+            .endDate(LocalDate.of(2024, 4, 14))
+            .status(BookingStatus.SUBMITTED)
+            .totalAmount(new BigDecimal("1249.50"))
+            .details("{\"flight_number\":\"AA100\",\"confirmation\":\"QX7T2P\",\"seat\":\"14C\"}")
+            .version(2L)
+            .createdAt(createdAt)
+            .updatedAt(createdAt.plusHours(1))
+            .createdBy("emp-001")
+            .updatedBy("emp-001")
+            .build();
+    }
+}
@@ -6,6 +6,11 @@ CREATE SCHEMA IF NOT EXISTS approval;
 CREATE SCHEMA IF NOT EXISTS consent;
 CREATE SCHEMA IF NOT EXISTS delegation;
 
+-- Extensions for booking search indexes: trigram matching, and btree
+-- operator classes so GIN indexes can lead with tenant_id
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
 -- Grant permissions
 GRANT ALL PRIVILEGES ON SCHEMA keycloak TO admin;
 GRANT ALL PRIVILEGES ON SCHEMA travel TO admin;
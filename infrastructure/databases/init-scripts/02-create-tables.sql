@@ -1,6 +1,9 @@
 -- Travel Service Tables
+-- Range-partitioned by month of created_at; the primary key must include the
+-- partition key. Partitions are created ahead of time by
+-- travel.create_booking_partitions and archived by the service.
 CREATE TABLE IF NOT EXISTS travel.bookings (
-    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
     tenant_id VARCHAR(255) NOT NULL,
     user_id VARCHAR(255) NOT NULL,
     booking_type VARCHAR(50) NOT NULL,
@@ -10,25 +13,86 @@ CREATE TABLE IF NOT EXISTS travel.bookings (
     status VARCHAR(50) NOT NULL DEFAULT 'DRAFT',
     total_amount DECIMAL(10, 2),
     details JSONB,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     created_by VARCHAR(255),
-    updated_by VARCHAR(255)
-);
+    updated_by VARCHAR(255),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
 
+-- Create the monthly partitions of travel.bookings from the current month up to
+-- months_ahead months ahead, e.g. travel.bookings_y2025m01 for January 2025.
+-- Idempotent; returns the number of partitions created.
+CREATE OR REPLACE FUNCTION travel.create_booking_partitions(months_ahead INT)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', LOCALTIMESTAMP)::date;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        partition_name := 'bookings_' || to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('travel.' || partition_name) IS NULL THEN
+            EXECUTE format(
+                'CREATE TABLE travel.%I PARTITION OF travel.bookings FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+SELECT travel.create_booking_partitions(3);
+
+-- Written asynchronously in batches; no foreign key so the trail outlives
+-- deleted bookings, and booking_id is null for denied creates
 CREATE TABLE IF NOT EXISTS travel.booking_audit (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
-    booking_id UUID NOT NULL REFERENCES travel.bookings(id),
+    booking_id UUID,
+    tenant_id VARCHAR(255) NOT NULL,
     actor_id VARCHAR(255) NOT NULL,
     subject_id VARCHAR(255) NOT NULL,
     action VARCHAR(100) NOT NULL,
+    decision VARCHAR(10) NOT NULL,
     details JSONB,
     timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Transactional outbox: one row per booking change, written in the change's
+-- transaction and deleted once the relay has published it
+CREATE TABLE IF NOT EXISTS travel.booking_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    booking_id UUID NOT NULL,
+    tenant_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 CREATE INDEX idx_bookings_tenant ON travel.bookings(tenant_id);
 CREATE INDEX idx_bookings_user ON travel.bookings(user_id);
+-- Keyset pagination of a user's bookings, newest first
+CREATE INDEX idx_bookings_tenant_user_created ON travel.bookings(tenant_id, user_id, created_at DESC, id DESC);
+-- Booking search (POST /api/bookings/search); every filter has an index
+-- led by tenant_id, except details, whose GIN index is combined by bitmap AND
+CREATE INDEX idx_bookings_tenant_status_start ON travel.bookings(tenant_id, status, start_date);
+CREATE INDEX idx_bookings_tenant_type_start ON travel.bookings(tenant_id, booking_type, start_date);
+CREATE INDEX idx_bookings_tenant_start_end ON travel.bookings(tenant_id, start_date, end_date);
+CREATE INDEX idx_bookings_tenant_amount ON travel.bookings(tenant_id, total_amount);
+-- lower(destination) LIKE 'ber%' and LIKE '%berl%' (pg_trgm, tenant_id via btree_gin)
+CREATE INDEX idx_bookings_tenant_destination_trgm ON travel.bookings
+    USING GIN (tenant_id, lower(destination) gin_trgm_ops);
+-- details @> '{"confirmationCode": "ABC123"}'
+CREATE INDEX idx_bookings_details ON travel.bookings USING GIN (details jsonb_path_ops);
 CREATE INDEX idx_booking_audit_booking ON travel.booking_audit(booking_id);
+CREATE INDEX idx_booking_audit_tenant_time ON travel.booking_audit(tenant_id, timestamp);
+-- Finds the oldest pending event of a booking (the only claimable one)
+CREATE INDEX idx_booking_outbox_booking ON travel.booking_outbox(booking_id, id);
 
 -- Expense Service Tables
 CREATE TABLE IF NOT EXISTS expense.expenses (
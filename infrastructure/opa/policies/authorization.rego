@@ -158,11 +158,22 @@ allow if {
 # Admin Authorization
 
 # Allow admin to perform any action within their tenant
+# (including create_booking_for_user, used by bulk creation for other owners)
 allow if {
     has_role("admin")
     is_same_tenant
 }
 
+# Batch Authorization
+
+# One decision per entry in input.resources, in the same order.
+# Evaluates the regular allow rules with input.resource bound to each entry,
+# so list views can filter N resources in a single round trip.
+batch_allow := [decision |
+    some resource in input.resources
+    decision := allow with input.resource as resource
+]
+
 # Audit logging (always allow but log)
 audit_entry = {
     "timestamp": time.now_ns(),
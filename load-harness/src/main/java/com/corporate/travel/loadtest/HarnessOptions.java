@@ -0,0 +1,162 @@
+package com.corporate.travel.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of the load harness ({@code --name value} pairs)
+ */
+final class HarnessOptions {
+
+    String serviceUrl = "http://localhost:8081";
+    int idpPort = 18180;
+    int opaPort = 18181;
+    String tenant = "tenant-load";
+    int users = 20;
+    int concurrency = 64;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(15);
+    Duration waitForService = Duration.ofSeconds(120);
+    Map<Operation, Integer> mix = parseMix("create=10,get=45,list=30,update=10,delete=5");
+    int listLimit = 20;
+    long opaLatencyMs = 5;
+    long opaJitterMs = 5;
+    double opaErrorRate = 0.0;
+    Path out = Path.of("build", "load-report");
+    Path baseline;
+    double maxRegressionPercent = 10.0;
+    boolean stubsOnly;
+
+    static HarnessOptions parse(String[] args) {
+        HarnessOptions options = new HarnessOptions();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if ("--stubs-only".equals(name)) {
+                options.stubsOnly = true;
+                continue;
+            }
+            if ("--help".equals(name) || "-h".equals(name)) {
+                throw new IllegalArgumentException("");
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + name);
+            }
+            String value = args[++i];
+            switch (name) {
+                case "--service-url" -> options.serviceUrl = value.replaceAll("/+$", "");
+                case "--idp-port" -> options.idpPort = Integer.parseInt(value);
+                case "--opa-port" -> options.opaPort = Integer.parseInt(value);
+                case "--tenant" -> options.tenant = value;
+                case "--users" -> options.users = positive(name, Integer.parseInt(value));
+                case "--concurrency" -> options.concurrency = positive(name, Integer.parseInt(value));
+                case "--duration" -> options.duration = parseDuration(value);
+                case "--warmup" -> options.warmup = parseDuration(value);
+                case "--wait-for-service" -> options.waitForService = parseDuration(value);
+                case "--mix" -> options.mix = parseMix(value);
+                case "--list-limit" -> options.listLimit = positive(name, Integer.parseInt(value));
+                case "--opa-latency-ms" -> options.opaLatencyMs = Long.parseLong(value);
+                case "--opa-jitter-ms" -> options.opaJitterMs = Long.parseLong(value);
+                case "--opa-error-rate" -> options.opaErrorRate = Double.parseDouble(value);
+                case "--out" -> options.out = Path.of(value);
+                case "--baseline" -> options.baseline = Path.of(value);
+                case "--max-regression" -> options.maxRegressionPercent = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+        if (options.opaErrorRate < 0 || options.opaErrorRate > 1) {
+            throw new IllegalArgumentException("--opa-error-rate must be between 0 and 1");
+        }
+        return options;
+    }
+
+    /**
+     * Settings worth keeping next to the results, so two reports can be compared like for like
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("serviceUrl", serviceUrl);
+        config.put("tenant", tenant);
+        config.put("users", users);
+        config.put("concurrency", concurrency);
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("mix", mix);
+        config.put("listLimit", listLimit);
+        config.put("opaLatencyMs", opaLatencyMs);
+        config.put("opaJitterMs", opaJitterMs);
+        config.put("opaErrorRate", opaErrorRate);
+        return config;
+    }
+
+    static String usage() {
+        return """
+            Usage: load-harness [options]
+
+            Starts a local JWT issuer and OPA stub, waits for travel-service to become
+            healthy, drives a create/get/list/update/delete mix and writes a report.
+
+              --service-url URL        travel-service base URL (http://localhost:8081)
+              --idp-port N             JWT issuer port (18180); point the service's issuer-uri at
+                                       http://127.0.0.1:N/realms/corporate-travel
+              --opa-port N             OPA stub port (18181)
+              --tenant ID              tenant of the simulated users (tenant-load)
+              --users N                distinct users / tokens (20)
+              --concurrency N          concurrent in-flight requests (64)
+              --duration D             measured duration, e.g. 60s, 5m (60s)
+              --warmup D               unmeasured warm-up (15s)
+              --wait-for-service D     how long to wait for /actuator/health (120s)
+              --mix SPEC               operation weights (create=10,get=45,list=30,update=10,delete=5)
+              --list-limit N           page size for list requests (20)
+              --opa-latency-ms N       OPA stub base latency (5)
+              --opa-jitter-ms N        extra uniform random OPA latency (5)
+              --opa-error-rate R       fraction of OPA calls answered with HTTP 500 (0.0)
+              --out DIR                report directory (build/load-report)
+              --baseline FILE          earlier report.json to compare against
+              --max-regression PCT     allowed p99 / throughput regression vs baseline (10)
+              --stubs-only             only run the JWT issuer and OPA stub (prints a token)
+            """;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] entry = part.trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in --mix: " + part);
+            }
+            mix.put(Operation.valueOf(entry[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        return mix;
+    }
+
+    static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+
+    private static int positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1");
+        }
+        return value;
+    }
+}
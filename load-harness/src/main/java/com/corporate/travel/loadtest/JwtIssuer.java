@@ -0,0 +1,140 @@
+package com.corporate.travel.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stand-in for Keycloak: signs access tokens with a throwaway RSA key and serves its JWKS
+ *
+ * Tokens carry the claims {@code JwtAuthenticationConverter} reads (tenant_id,
+ * preferred_username, realm_access.roles). The service accepts them once its
+ * issuer-uri points here; the JWKS is published at the Keycloak path the service
+ * derives from it.
+ *
+ * Endpoints under {@code /realms/corporate-travel}:
+ * - {@code /protocol/openid-connect/certs} - JWKS
+ * - {@code /.well-known/openid-configuration} - issuer and jwks_uri
+ * - {@code /protocol/openid-connect/token?username=..&roles=..} - mint a token (manual testing)
+ */
+final class JwtIssuer implements HttpHandler {
+
+    static final String REALM_PATH = "/realms/corporate-travel";
+
+    private final String issuer;
+    private final String tenant;
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final byte[] jwks;
+    private final byte[] discovery;
+
+    JwtIssuer(int port, String tenant) throws JOSEException {
+        this.issuer = "http://127.0.0.1:" + port + REALM_PATH;
+        this.tenant = tenant;
+        this.signingKey = new RSAKeyGenerator(2048)
+            .keyID("load-harness-" + UUID.randomUUID())
+            .keyUse(KeyUse.SIGNATURE)
+            .algorithm(JWSAlgorithm.RS256)
+            .generate();
+        this.signer = new RSASSASigner(signingKey);
+        this.jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        this.discovery = ("{\"issuer\":\"" + issuer + "\",\"jwks_uri\":\"" + issuer
+            + "/protocol/openid-connect/certs\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    String issuer() {
+        return issuer;
+    }
+
+    /**
+     * Sign an access token for a user of the harness tenant
+     */
+    String issue(String userId, List<String> roles, Duration ttl) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer(issuer)
+            .subject(userId)
+            .jwtID(UUID.randomUUID().toString())
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(ttl)))
+            .claim("preferred_username", userId)
+            .claim("tenant_id", tenant)
+            .claim("employee_id", userId.toUpperCase())
+            .claim("email", userId + "@load.example")
+            .claim("realm_access", Map.of("roles", roles))
+            .build();
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .keyID(signingKey.getKeyID())
+                .type(JOSEObjectType.JWT)
+                .build(),
+            claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(REALM_PATH + "/protocol/openid-connect/certs")) {
+                Stubs.send(exchange, 200, jwks);
+            } else if (path.equals(REALM_PATH + "/.well-known/openid-configuration")) {
+                Stubs.send(exchange, 200, discovery);
+            } else if (path.equals(REALM_PATH + "/protocol/openid-connect/token")) {
+                Map<String, String> query = query(exchange.getRequestURI());
+                String username = query.getOrDefault("username", "load-user-0001");
+                List<String> roles = Arrays.asList(query.getOrDefault("roles", "employee").split(","));
+                String token = issue(username, roles, Duration.ofHours(1));
+                Stubs.send(exchange, 200, ("{\"access_token\":\"" + token + "\",\"token_type\":\"Bearer\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+            } else {
+                Stubs.send(exchange, 404, "{\"error\":\"not_found\"}".getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() == null) {
+            return params;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,109 @@
+package com.corporate.travel.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * End-to-end load harness for travel-service
+ *
+ * Runs a JWT issuer and an OPA stub in-process, so the only external
+ * dependency of a run is the service and its database. Exit codes:
+ * 0 - done, 1 - setup failure, 2 - regression against the baseline.
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options;
+        try {
+            options = HarnessOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+                System.err.println(e.getMessage());
+            }
+            System.err.print(HarnessOptions.usage());
+            System.exit(1);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JwtIssuer issuer = new JwtIssuer(options.idpPort, options.tenant);
+        OpaStub opa = new OpaStub(objectMapper, options.opaLatencyMs, options.opaJitterMs, options.opaErrorRate);
+
+        try (Stubs stubs = new Stubs(options.idpPort, issuer, options.opaPort, opa)) {
+            stubs.start();
+            System.out.printf("JWT issuer: %s%n", issuer.issuer());
+            System.out.printf("OPA stub:   http://127.0.0.1:%d (latency %d+%dms, error rate %.3f)%n",
+                options.opaPort, options.opaLatencyMs, options.opaJitterMs, options.opaErrorRate);
+
+            if (options.stubsOnly) {
+                System.out.printf("Sample token (load-user-0001, 1h):%n%s%n",
+                    issuer.issue("load-user-0001", List.of("employee"), Duration.ofHours(1)));
+                Thread.currentThread().join();
+                return;
+            }
+
+            if (!waitForService(options)) {
+                System.err.printf("%s/actuator/health not UP within %ds%n",
+                    options.serviceUrl, options.waitForService.toSeconds());
+                System.exit(1);
+                return;
+            }
+
+            Instant startedAt = Instant.now();
+            System.out.printf("Warming up for %ds%n", options.warmup.toSeconds());
+            Workload workload = new Workload(options, objectMapper, issuer);
+            long measuredNanos = workload.run();
+
+            LoadReport report = new LoadReport(options, objectMapper, workload.stats(), measuredNanos, opa, startedAt);
+            report.write();
+            System.out.println();
+            report.printTable(System.out);
+            System.out.printf("%nReport written to %s%n", options.out.toAbsolutePath());
+
+            if (options.baseline != null) {
+                List<String> regressions = report.compareWithBaseline(System.out);
+                if (!regressions.isEmpty()) {
+                    System.out.printf("%nRegressions beyond %.1f%%:%n", options.maxRegressionPercent);
+                    regressions.forEach(regression -> System.out.println("  " + regression));
+                    System.exit(2);
+                }
+                System.out.printf("%nWithin %.1f%% of baseline%n", options.maxRegressionPercent);
+            }
+        }
+    }
+
+    private static boolean waitForService(HarnessOptions options) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(options.serviceUrl + "/actuator/health"))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+        long deadline = System.nanoTime() + options.waitForService.toNanos();
+        System.out.printf("Waiting for %s%n", options.serviceUrl);
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package com.corporate.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a run and compares them with a baseline
+ *
+ * Output directory:
+ * - report.json - configuration, and per endpoint: throughput, error count, latency percentiles (ms), outcomes
+ * - report.txt - the same as a table
+ * - &lt;operation&gt;.hgrm - full HdrHistogram percentile distribution (ms), for plotting
+ *
+ * Two report.json files are comparable when their config blocks match.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final HarnessOptions options;
+    private final ObjectMapper objectMapper;
+    private final Map<Operation, EndpointStats> stats;
+    private final long measuredNanos;
+    private final OpaStub opa;
+    private final Instant startedAt;
+
+    LoadReport(HarnessOptions options, ObjectMapper objectMapper, Map<Operation, EndpointStats> stats,
+               long measuredNanos, OpaStub opa, Instant startedAt) {
+        this.options = options;
+        this.objectMapper = objectMapper;
+        this.stats = stats;
+        this.measuredNanos = measuredNanos;
+        this.opa = opa;
+        this.startedAt = startedAt;
+    }
+
+    void write() throws IOException {
+        Files.createDirectories(options.out);
+        objectMapper.writerWithDefaultPrettyPrinter()
+            .writeValue(options.out.resolve("report.json").toFile(), toJson());
+
+        try (PrintStream txt = new PrintStream(options.out.resolve("report.txt").toFile(), "UTF-8")) {
+            printTable(txt);
+        }
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            if (entry.getValue().requests() == 0) {
+                continue;
+            }
+            Path hgrm = options.out.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(hgrm.toFile(), "UTF-8")) {
+                // Recorded in microseconds; scale the output to milliseconds
+                entry.getValue().latency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    void printTable(PrintStream out) {
+        out.printf(Locale.ROOT, "%-32s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            if (endpoint.requests() == 0) {
+                continue;
+            }
+            Histogram latency = endpoint.latency();
+            out.printf(Locale.ROOT, "%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                entry.getKey().endpoint,
+                endpoint.requests(),
+                endpoint.errors(),
+                throughput(endpoint),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+        }
+        out.printf(Locale.ROOT, "OPA stub: %d decisions, %d injected errors%n", opa.requests(), opa.injectedErrors());
+    }
+
+    /**
+     * Compare p99 latency and throughput per endpoint with an earlier report.json
+     *
+     * @return the regressions beyond the allowed percentage; empty if none
+     */
+    List<String> compareWithBaseline(PrintStream out) throws IOException {
+        JsonNode baseline = objectMapper.readTree(options.baseline.toFile());
+        if (!baseline.path("config").equals(objectMapper.valueToTree(options.describe()))) {
+            out.println("WARNING: baseline was recorded with a different configuration; comparing anyway");
+        }
+
+        List<String> regressions = new ArrayList<>();
+        double allowed = options.maxRegressionPercent;
+        out.printf(Locale.ROOT, "%n%-32s %12s %12s %8s %12s %12s %8s%n",
+            "endpoint", "base p99", "p99", "chg %", "base req/s", "req/s", "chg %");
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            JsonNode before = baseline.path("endpoints").path(entry.getKey().name());
+            EndpointStats endpoint = entry.getValue();
+            if (before.isMissingNode() || endpoint.requests() == 0) {
+                continue;
+            }
+            double baseP99 = before.path("latencyMs").path("p99").asDouble();
+            double p99 = millis(endpoint.latency().getValueAtPercentile(99));
+            double baseThroughput = before.path("throughput").asDouble();
+            double currentThroughput = throughput(endpoint);
+            double p99Change = change(baseP99, p99);
+            double throughputChange = change(baseThroughput, currentThroughput);
+
+            out.printf(Locale.ROOT, "%-32s %12.2f %12.2f %+8.1f %12.1f %12.1f %+8.1f%n",
+                entry.getKey().endpoint, baseP99, p99, p99Change, baseThroughput, currentThroughput, throughputChange);
+            if (p99Change > allowed) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %.2fms -> %.2fms (%+.1f%%)",
+                    entry.getKey().endpoint, baseP99, p99, p99Change));
+            }
+            if (-throughputChange > allowed) {
+                regressions.add(String.format(Locale.ROOT, "%s throughput %.1f -> %.1f req/s (%+.1f%%)",
+                    entry.getKey().endpoint, baseThroughput, currentThroughput, throughputChange));
+            }
+        }
+        return regressions;
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("config", options.describe());
+        report.put("measuredSeconds", measuredNanos / 1e9);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            if (endpoint.requests() == 0) {
+                continue;
+            }
+            Histogram latency = endpoint.latency();
+            Map<String, Object> latencyMs = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latencyMs.put("p" + format(percentile), millis(latency.getValueAtPercentile(percentile)));
+            }
+            latencyMs.put("max", millis(latency.getMaxValue()));
+            latencyMs.put("mean", latency.getMean() / 1000.0);
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("endpoint", entry.getKey().endpoint);
+            json.put("requests", endpoint.requests());
+            json.put("errors", endpoint.errors());
+            json.put("throughput", throughput(endpoint));
+            json.put("latencyMs", latencyMs);
+            json.put("outcomes", endpoint.outcomes());
+            endpoints.put(entry.getKey().name(), json);
+        }
+        report.put("endpoints", endpoints);
+        report.put("opa", Map.of("requests", opa.requests(), "injectedErrors", opa.injectedErrors()));
+        return report;
+    }
+
+    private double throughput(EndpointStats endpoint) {
+        return endpoint.requests() / (measuredNanos / 1e9);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile)
+            ? String.valueOf((long) percentile)
+            : String.valueOf(percentile);
+    }
+}
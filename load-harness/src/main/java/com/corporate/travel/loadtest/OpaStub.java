@@ -0,0 +1,86 @@
+package com.corporate.travel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stand-in for OPA with configurable latency and failure rate
+ *
+ * Answers the three calls {@code HttpOpaPolicyEvaluator} makes: allow (true),
+ * batch_allow (true per resource) and the Compile API (an unconditional query,
+ * so the visible listing is limited only by tenant). A configurable fraction of
+ * calls get HTTP 500, which the service must treat as deny.
+ */
+final class OpaStub implements HttpHandler {
+
+    private static final byte[] ERROR = "{\"code\":\"internal_error\",\"message\":\"injected by load harness\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    OpaStub(ObjectMapper objectMapper, long latencyMs, long jitterMs, double errorRate) {
+        this.objectMapper = objectMapper;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            requests.increment();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                injectedErrors.increment();
+                Stubs.send(exchange, 500, ERROR);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Object result;
+            if (path.endsWith("/batch_allow")) {
+                JsonNode resources = objectMapper.readTree(body).path("input").path("resources");
+                result = Collections.nCopies(resources.size(), true);
+            } else if (path.startsWith("/v1/compile")) {
+                result = Map.of("queries", List.of(List.of()));
+            } else {
+                result = true;
+            }
+            Stubs.send(exchange, 200, objectMapper.writeValueAsBytes(Map.of("result", result)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.sum();
+    }
+}
@@ -0,0 +1,27 @@
+package com.corporate.travel.loadtest;
+
+/**
+ * Booking API operations in the workload mix, labelled by endpoint
+ */
+enum Operation {
+    CREATE("POST /api/bookings", 201),
+    GET("GET /api/bookings/{id}", 200),
+    LIST("GET /api/bookings", 200),
+    UPDATE("PUT /api/bookings/{id}/status", 200),
+    DELETE("DELETE /api/bookings/{id}", 204);
+
+    final String endpoint;
+    final int expectedStatus;
+
+    Operation(String endpoint, int expectedStatus) {
+        this.endpoint = endpoint;
+        this.expectedStatus = expectedStatus;
+    }
+
+    /**
+     * Whether the operation acts on an existing booking
+     */
+    boolean needsBooking() {
+        return this == GET || this == UPDATE || this == DELETE;
+    }
+}
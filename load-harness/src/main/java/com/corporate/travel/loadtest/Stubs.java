@@ -0,0 +1,53 @@
+package com.corporate.travel.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP servers for the JWT issuer and the OPA stub
+ *
+ * Each request runs on its own virtual thread, so injected OPA latency never
+ * limits how many decisions are in flight.
+ */
+final class Stubs implements AutoCloseable {
+
+    private final HttpServer idpServer;
+    private final HttpServer opaServer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    Stubs(int idpPort, JwtIssuer issuer, int opaPort, OpaStub opa) throws IOException {
+        idpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", idpPort), 1024);
+        idpServer.createContext("/", issuer);
+        idpServer.setExecutor(executor);
+
+        opaServer = HttpServer.create(new InetSocketAddress("127.0.0.1", opaPort), 4096);
+        opaServer.createContext("/", opa);
+        opaServer.setExecutor(executor);
+    }
+
+    void start() {
+        idpServer.start();
+        opaServer.start();
+    }
+
+    @Override
+    public void close() {
+        idpServer.stop(0);
+        opaServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
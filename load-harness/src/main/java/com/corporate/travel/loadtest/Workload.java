@@ -0,0 +1,275 @@
+package com.corporate.travel.loadtest;
+
+import com.corporate.travel.models.BookingStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop booking workload: each worker sends its next request as soon as the previous one returns
+ *
+ * Operations are drawn from the weighted mix. Bookings created during the run
+ * feed the get/update/delete operations; a booking is taken out of the pool
+ * while a request on it is in flight, so workers never race on the same row
+ * and updates always carry the current version. With an empty pool those
+ * operations fall back to create.
+ *
+ * Only requests started after the warm-up and before the deadline are recorded.
+ */
+final class Workload {
+
+    private static final List<String> ROLES = List.of("employee");
+    private static final String[] DESTINATIONS = {"New York", "London", "Singapore", "Berlin", "Sao Paulo", "Tokyo"};
+    private static final String[] TYPES = {"FLIGHT", "HOTEL", "CAR"};
+
+    private record BookingRef(UUID id, String userId, String token, BookingStatus status, long version) {
+    }
+
+    private final HarnessOptions options;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final List<String> userIds;
+    private final List<String> tokens;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Queue<BookingRef> bookings = new ConcurrentLinkedQueue<>();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    Workload(HarnessOptions options, ObjectMapper objectMapper, JwtIssuer issuer) {
+        this.options = options;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        Duration tokenTtl = options.warmup.plus(options.duration).plusMinutes(10);
+        this.userIds = new ArrayList<>(options.users);
+        this.tokens = new ArrayList<>(options.users);
+        for (int i = 1; i <= options.users; i++) {
+            String userId = String.format("load-user-%04d", i);
+            userIds.add(userId);
+            tokens.add(issuer.issue(userId, ROLES, tokenTtl));
+        }
+
+        List<Map.Entry<Operation, Integer>> weighted = options.mix.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .toList();
+        this.operations = new Operation[weighted.size()];
+        this.cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            total += weighted.get(i).getValue();
+            operations[i] = weighted.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    /**
+     * Run the warm-up and the measured window
+     *
+     * @return the measured duration in nanoseconds
+     */
+    long run() throws InterruptedException {
+        long start = System.nanoTime();
+        long warmupEnd = start + options.warmup.toNanos();
+        long deadline = warmupEnd + options.duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        step(deadline);
+                    }
+                    return null;
+                });
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+            measureFrom = warmupEnd;
+            System.out.printf("Measuring for %ds at concurrency %d%n",
+                options.duration.toSeconds(), options.concurrency);
+        }
+        return deadline - warmupEnd;
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    int pooledBookings() {
+        return bookings.size();
+    }
+
+    private void step(long deadline) throws InterruptedException {
+        Operation operation = pick();
+        BookingRef booking = null;
+        if (operation.needsBooking()) {
+            booking = bookings.poll();
+            if (booking == null) {
+                operation = Operation.CREATE;
+            }
+        }
+        int user = ThreadLocalRandom.current().nextInt(userIds.size());
+        String token = booking != null ? booking.token() : tokens.get(user);
+
+        HttpRequest request = request(operation, booking, user, token);
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            record(operation, started, deadline, e.getClass().getSimpleName(), true);
+            if (booking != null) {
+                bookings.offer(booking);
+            }
+            return;
+        }
+        int status = response.statusCode();
+        record(operation, started, deadline, String.valueOf(status), status != operation.expectedStatus);
+        afterResponse(operation, booking, user, token, response);
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest request(Operation operation, BookingRef booking, int user, String token) {
+        String base = options.serviceUrl + "/api/bookings";
+        HttpRequest.Builder builder = switch (operation) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(base))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(newBooking(userIds.get(user)))))
+                .header("Content-Type", "application/json");
+            case GET -> HttpRequest.newBuilder(URI.create(base + "/" + booking.id())).GET();
+            case LIST -> HttpRequest.newBuilder(URI.create(base + "?limit=" + options.listLimit)).GET();
+            case UPDATE -> HttpRequest.newBuilder(URI.create(base + "/" + booking.id() + "/status"))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(Map.of(
+                    "status", nextStatus(booking.status()).name(),
+                    "version", String.valueOf(booking.version())))))
+                .header("Content-Type", "application/json");
+            case DELETE -> HttpRequest.newBuilder(URI.create(base + "/" + booking.id())).DELETE();
+        };
+        return builder
+            .timeout(Duration.ofSeconds(30))
+            .header("Authorization", "Bearer " + token)
+            .header("Accept", "application/json")
+            .build();
+    }
+
+    private void afterResponse(Operation operation, BookingRef booking, int user, String token,
+                               HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        boolean ok = status == operation.expectedStatus;
+        switch (operation) {
+            case CREATE, UPDATE -> {
+                if (ok) {
+                    BookingRef updated = parse(response.body(), operation == Operation.CREATE
+                        ? userIds.get(user) : booking.userId(), token);
+                    if (updated != null && !updated.status().isTerminal()) {
+                        bookings.offer(updated);
+                    }
+                } else if (booking != null && status != 404 && status != 409) {
+                    bookings.offer(booking);
+                }
+            }
+            case GET -> {
+                if (status != 404) {
+                    bookings.offer(booking);
+                }
+            }
+            case DELETE -> {
+                if (!ok && status != 404) {
+                    bookings.offer(booking);
+                }
+            }
+            case LIST -> {
+                // Nothing to track
+            }
+        }
+    }
+
+    private void record(Operation operation, long started, long deadline, String outcome, boolean error) {
+        if (started >= measureFrom && started < deadline) {
+            stats.get(operation).record(System.nanoTime() - started, outcome, error);
+        }
+    }
+
+    private BookingRef parse(byte[] body, String userId, String token) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return new BookingRef(
+                UUID.fromString(node.path("id").asText()),
+                userId,
+                token,
+                BookingStatus.valueOf(node.path("status").asText()),
+                node.path("version").asLong());
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Walk bookings forward through the lifecycle; cancel once confirmed
+     */
+    private static BookingStatus nextStatus(BookingStatus current) {
+        return current.nextStatuses().stream()
+            .filter(status -> status != BookingStatus.CANCELLED)
+            .findFirst()
+            .orElse(BookingStatus.CANCELLED);
+    }
+
+    private Map<String, Object> newBooking(String userId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate start = LocalDate.now().plusDays(7 + random.nextInt(180));
+        Map<String, Object> booking = new LinkedHashMap<>();
+        // tenantId and userId are overwritten by the service; sent only to satisfy validation
+        booking.put("tenantId", options.tenant);
+        booking.put("userId", userId);
+        booking.put("bookingType", TYPES[random.nextInt(TYPES.length)]);
+        booking.put("destination", DESTINATIONS[random.nextInt(DESTINATIONS.length)]);
+        booking.put("startDate", start.toString());
+        booking.put("endDate", start.plusDays(1 + random.nextInt(7)).toString());
+        booking.put("status", BookingStatus.PENDING.name());
+        booking.put("totalAmount", BigDecimal.valueOf(100 + random.nextInt(4900), 0).setScale(2));
+        return booking;
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
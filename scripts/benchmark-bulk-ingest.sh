@@ -0,0 +1,178 @@
+#!/usr/bin/env bash
+
+set -euo pipefail
+
+############################################
+# Defaults
+############################################
+
+BASE_URL="http://localhost:8081"
+TOTAL_RECORDS=2000
+BATCH_SIZE=1000
+CONCURRENCY=8
+TOKEN="${TOKEN:-}"
+
+############################################
+# Usage
+############################################
+
+usage() {
+  cat <<EOF2
+Compare booking ingestion throughput: one POST /api/bookings per booking
+versus POST /api/bookings/bulk.
+
+Usage:
+  $0 [--url URL] [--token JWT] [--records N] [--batch-size N] [--concurrency N]
+
+The token defaults to \$TOKEN, then /tmp/keycloak-token.txt (see get-token.sh).
+
+Example:
+  ./scripts/get-token.sh alice.employee password123
+  $0 --records 5000 --batch-size 1000 --concurrency 16
+EOF2
+  exit 1
+}
+
+############################################
+# Parse Arguments
+############################################
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --url)
+      BASE_URL="$2"
+      shift 2
+      ;;
+    --token)
+      TOKEN="$2"
+      shift 2
+      ;;
+    --records)
+      TOTAL_RECORDS="$2"
+      shift 2
+      ;;
+    --batch-size)
+      BATCH_SIZE="$2"
+      shift 2
+      ;;
+    --concurrency)
+      CONCURRENCY="$2"
+      shift 2
+      ;;
+    *)
+      echo "Unknown parameter: $1"
+      usage
+      ;;
+  esac
+done
+
+############################################
+# Validation
+############################################
+
+if [[ -z "$TOKEN" && -f /tmp/keycloak-token.txt ]]; then
+  TOKEN=$(cat /tmp/keycloak-token.txt)
+fi
+: "${TOKEN:?Missing --token (or run ./scripts/get-token.sh first)}"
+
+for tool in curl jq; do
+  command -v "$tool" > /dev/null 2>&1 || { echo "❌ $tool is required"; exit 1; }
+done
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+############################################
+# Helper Functions
+############################################
+
+now_ms() {
+  if date +%s%N | grep -qv N; then
+    echo $(( $(date +%s%N) / 1000000 ))
+  else
+    python3 -c 'import time; print(int(time.time() * 1000))'
+  fi
+}
+
+# One booking as JSON; start dates are spread so rows are not identical
+booking_json() {
+  local i="$1"
+  local day=$(( i % 28 + 1 ))
+  printf '{"bookingType":"FLIGHT","destination":"Bench %d","startDate":"2030-01-%02d","endDate":"2030-01-%02d","totalAmount":%d.00}' \
+    "$i" "$day" "$day" $(( 1000 + i % 9000 ))
+}
+
+rate() {
+  local count="$1" elapsed_ms="$2"
+  awk -v n="$count" -v ms="$elapsed_ms" 'BEGIN { if (ms == 0) ms = 1; printf "%.1f", n * 1000 / ms }'
+}
+
+############################################
+# Prepare Payloads
+############################################
+
+echo "🏗️  Preparing $TOTAL_RECORDS bookings..."
+
+for ((i=1; i<=TOTAL_RECORDS; i++)); do
+  booking_json "$i"
+  echo
+done > "$WORK_DIR/bookings.ndjson"
+
+split -l "$BATCH_SIZE" "$WORK_DIR/bookings.ndjson" "$WORK_DIR/batch-"
+for part in "$WORK_DIR"/batch-*; do
+  jq -s '.' "$part" > "$part.json"
+done
+
+############################################
+# Single-item Path
+############################################
+
+echo "⏱️  Single-item: $TOTAL_RECORDS x POST /api/bookings (concurrency $CONCURRENCY)"
+
+export BASE_URL TOKEN
+start=$(now_ms)
+tr '\n' '\0' < "$WORK_DIR/bookings.ndjson" | xargs -0 -P "$CONCURRENCY" -I {} \
+  curl -s -o /dev/null -w '%{http_code}\n' -X POST "$BASE_URL/api/bookings" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H "Content-Type: application/json" \
+    -d {} > "$WORK_DIR/single-status.txt"
+single_ms=$(( $(now_ms) - start ))
+single_ok=$(grep -c '^201$' "$WORK_DIR/single-status.txt" || true)
+
+############################################
+# Bulk Path
+############################################
+
+echo "⏱️  Bulk: POST /api/bookings/bulk in batches of $BATCH_SIZE"
+
+bulk_ok=0
+start=$(now_ms)
+for part in "$WORK_DIR"/batch-*.json; do
+  created=$(curl -s -X POST "$BASE_URL/api/bookings/bulk" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H "Content-Type: application/json" \
+    --data-binary "@$part" | jq -r '.created // 0')
+  bulk_ok=$(( bulk_ok + created ))
+done
+bulk_ms=$(( $(now_ms) - start ))
+
+############################################
+# Report
+############################################
+
+single_rate=$(rate "$single_ok" "$single_ms")
+bulk_rate=$(rate "$bulk_ok" "$bulk_ms")
+
+echo ""
+printf "%-12s %10s %10s %14s\n" "path" "created" "ms" "bookings/s"
+printf "%-12s %10d %10d %14s\n" "single" "$single_ok" "$single_ms" "$single_rate"
+printf "%-12s %10d %10d %14s\n" "bulk" "$bulk_ok" "$bulk_ms" "$bulk_rate"
+echo ""
+awk -v s="$single_rate" -v b="$bulk_rate" 'BEGIN { if (s > 0) printf "📈 Bulk speedup: %.1fx\n", b / s }'
+
+if [[ "$single_ok" -ne "$TOTAL_RECORDS" || "$bulk_ok" -ne "$TOTAL_RECORDS" ]]; then
+  echo "⚠️  Not every booking was created; check the token's permissions and service logs"
+fi
+echo ""
+echo "🧹 Benchmark rows have destination 'Bench N'; remove them with:"
+echo "   DELETE FROM travel.bookings WHERE destination LIKE 'Bench %';"
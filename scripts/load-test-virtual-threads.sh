@@ -0,0 +1,237 @@
+#!/usr/bin/env bash
+
+set -euo pipefail
+
+############################################
+# Defaults
+############################################
+
+JAR="services/travel-service/build/libs/travel-service.jar"
+SERVICE_PORT=18081
+STUB_PORT=18181
+OPA_DELAY_MS=200
+CONCURRENCY=1000
+REQUESTS=20000
+ENDPOINT="/api/bookings?limit=20"
+TOKEN="${TOKEN:-}"
+
+############################################
+# Usage
+############################################
+
+usage() {
+  cat <<EOF2
+Load test travel-service on platform threads vs virtual threads behind a slow OPA.
+
+Starts a stub OPA that answers every decision after --opa-delay-ms, runs the service
+jar once with the default thread model and once with the virtual-threads profile,
+drives both with the same load, and reports throughput, latency and any virtual
+thread pinning (-Djdk.tracePinnedThreads=short).
+
+Prerequisites:
+  docker compose up -d postgres keycloak
+  ./gradlew :services:travel-service:bootJar
+  ./scripts/get-token.sh alice.employee password123
+  hey (https://github.com/rakyll/hey) on PATH
+
+Usage:
+  $0 [--jar PATH] [--token JWT] [--concurrency N] [--requests N] [--opa-delay-ms N] [--endpoint PATH]
+
+Example:
+  $0 --concurrency 2000 --requests 40000 --opa-delay-ms 300
+EOF2
+  exit 1
+}
+
+############################################
+# Parse Arguments
+############################################
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --jar)
+      JAR="$2"
+      shift 2
+      ;;
+    --token)
+      TOKEN="$2"
+      shift 2
+      ;;
+    --concurrency)
+      CONCURRENCY="$2"
+      shift 2
+      ;;
+    --requests)
+      REQUESTS="$2"
+      shift 2
+      ;;
+    --opa-delay-ms)
+      OPA_DELAY_MS="$2"
+      shift 2
+      ;;
+    --endpoint)
+      ENDPOINT="$2"
+      shift 2
+      ;;
+    *)
+      echo "Unknown parameter: $1"
+      usage
+      ;;
+  esac
+done
+
+############################################
+# Validation
+############################################
+
+if [[ -z "$TOKEN" && -f /tmp/keycloak-token.txt ]]; then
+  TOKEN=$(cat /tmp/keycloak-token.txt)
+fi
+: "${TOKEN:?Missing --token (or run ./scripts/get-token.sh first)}"
+
+[[ -f "$JAR" ]] || { echo "❌ $JAR not found; run ./gradlew :services:travel-service:bootJar"; exit 1; }
+for tool in java python3 hey curl; do
+  command -v "$tool" > /dev/null 2>&1 || { echo "❌ $tool is required"; exit 1; }
+done
+
+WORK_DIR=$(mktemp -d)
+PIDS=()
+cleanup() {
+  for pid in "${PIDS[@]}"; do
+    kill "$pid" 2>/dev/null || true
+  done
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+############################################
+# Slow OPA Stub
+############################################
+
+cat > "$WORK_DIR/opa_stub.py" <<'PY'
+import json
+import sys
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+DELAY = int(sys.argv[2]) / 1000.0
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        body = json.loads(self.rfile.read(int(self.headers.get("Content-Length", 0))) or b"{}")
+        time.sleep(DELAY)
+        if self.path.endswith("/batch_allow"):
+            result = [True] * len(body.get("input", {}).get("resources", []))
+        elif self.path.startswith("/v1/compile"):
+            result = {"queries": [[]]}
+        else:
+            result = True
+        payload = json.dumps({"result": result}).encode()
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, *args):
+        pass
+
+
+ThreadingHTTPServer.daemon_threads = True
+ThreadingHTTPServer.request_queue_size = 4096
+ThreadingHTTPServer(("127.0.0.1", int(sys.argv[1])), Handler).serve_forever()
+PY
+
+python3 "$WORK_DIR/opa_stub.py" "$STUB_PORT" "$OPA_DELAY_MS" &
+PIDS+=($!)
+echo "🐢 OPA stub on :$STUB_PORT answering after ${OPA_DELAY_MS}ms"
+
+############################################
+# Helper Functions
+############################################
+
+wait_healthy() {
+  for _ in $(seq 1 90); do
+    if curl -sf "http://localhost:$SERVICE_PORT/actuator/health" > /dev/null; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "❌ Service did not become healthy; see $1"
+  tail -n 50 "$1"
+  exit 1
+}
+
+# run_mode NAME PROFILES
+run_mode() {
+  local name="$1" profiles="$2"
+  local log="$WORK_DIR/$name.log"
+
+  echo ""
+  echo "🚀 Starting travel-service ($name)"
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+    --server.port="$SERVICE_PORT" \
+    --spring.profiles.active="$profiles" \
+    --opa.url="http://127.0.0.1:$STUB_PORT" \
+    --opa.evaluator=http \
+    --opa.cache.enabled=false \
+    --opa.client.read-timeout=30s \
+    --opa.client.max-connections=2000 \
+    --opa.client.pending-acquire-max-count=20000 \
+    --opa.client.pending-acquire-timeout=30s \
+    --logging.level.com.corporate.travel=WARN \
+    --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+    > "$log" 2>&1 &
+  local pid=$!
+  PIDS+=("$pid")
+  wait_healthy "$log"
+
+  # Warm up JIT, pools and caches before measuring
+  hey -n 2000 -c 100 -H "Authorization: Bearer $TOKEN" "http://localhost:$SERVICE_PORT$ENDPOINT" > /dev/null
+
+  echo "⏱️  $REQUESTS requests at concurrency $CONCURRENCY"
+  hey -n "$REQUESTS" -c "$CONCURRENCY" -t 60 -H "Authorization: Bearer $TOKEN" \
+    "http://localhost:$SERVICE_PORT$ENDPOINT" > "$WORK_DIR/$name.hey"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  local rps p50 p99 non200
+  rps=$(awk '/Requests\/sec:/ {print $2}' "$WORK_DIR/$name.hey")
+  p50=$(awk '/ 50% in / {print $3}' "$WORK_DIR/$name.hey")
+  p99=$(awk '/ 99% in / {print $3}' "$WORK_DIR/$name.hey")
+  non200=$(awk '/^  \[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}' "$WORK_DIR/$name.hey")
+  printf "%s %s %s %s\n" "$name" "$rps" "$p50" "$p99" >> "$WORK_DIR/results.txt"
+  echo "   non-200 responses: $non200"
+}
+
+############################################
+# Run Both Modes
+############################################
+
+run_mode "platform" ""
+run_mode "virtual" "virtual-threads"
+
+############################################
+# Report
+############################################
+
+echo ""
+printf "%-10s %12s %10s %10s\n" "mode" "req/s" "p50 (s)" "p99 (s)"
+while read -r name rps p50 p99; do
+  printf "%-10s %12s %10s %10s\n" "$name" "$rps" "$p50" "$p99"
+done < "$WORK_DIR/results.txt"
+
+echo ""
+echo "📌 Virtual thread pinning (frames holding a monitor while parked):"
+if grep -q "<== monitors" "$WORK_DIR/virtual.log"; then
+  grep "<== monitors" "$WORK_DIR/virtual.log" | sed 's/^[[:space:]]*//' | sort | uniq -c | sort -rn | head -20
+  echo ""
+  echo "⚠️  Pinning found: replace synchronized around blocking calls in the frames above with ReentrantLock"
+else
+  echo "✅ No pinned virtual threads reported"
+fi
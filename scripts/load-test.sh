@@ -0,0 +1,148 @@
+#!/usr/bin/env bash
+
+set -euo pipefail
+
+############################################
+# Defaults
+############################################
+
+JAR="services/travel-service/build/libs/travel-service.jar"
+HARNESS="load-harness/build/install/load-harness/bin/load-harness"
+SERVICE_PORT=18081
+IDP_PORT=18180
+OPA_PORT=18181
+PROFILES=""
+OUT="build/load-report"
+HARNESS_ARGS=()
+
+############################################
+# Usage
+############################################
+
+usage() {
+  cat <<EOF2
+End-to-end load test of travel-service without Keycloak or OPA.
+
+Starts the load harness (local JWT issuer + OPA stub with injected latency and
+errors), starts the service jar pointed at them, drives a create/get/list/update/delete
+mix at fixed concurrency and writes per-endpoint HdrHistogram latency and throughput
+to --out. With --baseline, exits 2 if p99 or throughput regressed beyond --max-regression.
+
+Prerequisites:
+  docker compose up -d postgres
+  ./gradlew :services:travel-service:bootJar :load-harness:installDist
+
+Usage:
+  $0 [--jar PATH] [--profiles LIST] [--out DIR] [--duration D] [--warmup D]
+     [--concurrency N] [--users N] [--mix SPEC] [--opa-latency-ms N] [--opa-jitter-ms N]
+     [--opa-error-rate R] [--baseline FILE] [--max-regression PCT]
+
+Examples:
+  $0 --duration 2m --concurrency 128
+  $0 --out build/load-after --baseline build/load-before/report.json
+  $0 --profiles reactive --mix list=1        # the reactive deployment is read-only
+  $0 --profiles virtual-threads --opa-latency-ms 50 --opa-error-rate 0.01
+EOF2
+  exit 1
+}
+
+############################################
+# Parse Arguments
+############################################
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --jar)
+      JAR="$2"
+      shift 2
+      ;;
+    --profiles)
+      PROFILES="$2"
+      shift 2
+      ;;
+    --out)
+      OUT="$2"
+      shift 2
+      ;;
+    --duration|--warmup|--concurrency|--users|--mix|--opa-latency-ms|--opa-jitter-ms|--opa-error-rate|--baseline|--max-regression)
+      HARNESS_ARGS+=("$1" "$2")
+      shift 2
+      ;;
+    *)
+      echo "Unknown parameter: $1"
+      usage
+      ;;
+  esac
+done
+
+############################################
+# Validation
+############################################
+
+[[ -f "$JAR" ]] || { echo "❌ $JAR not found; run ./gradlew :services:travel-service:bootJar"; exit 1; }
+[[ -x "$HARNESS" ]] || { echo "❌ $HARNESS not found; run ./gradlew :load-harness:installDist"; exit 1; }
+command -v java > /dev/null 2>&1 || { echo "❌ java is required"; exit 1; }
+
+WORK_DIR=$(mktemp -d)
+PIDS=()
+cleanup() {
+  for pid in "${PIDS[@]}"; do
+    kill "$pid" 2>/dev/null || true
+  done
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+############################################
+# Load Harness (JWT issuer + OPA stub)
+############################################
+
+"$HARNESS" \
+  --service-url "http://localhost:$SERVICE_PORT" \
+  --idp-port "$IDP_PORT" \
+  --opa-port "$OPA_PORT" \
+  --out "$OUT" \
+  "${HARNESS_ARGS[@]}" &
+HARNESS_PID=$!
+PIDS+=("$HARNESS_PID")
+
+# The service fetches the JWKS at startup, so the issuer must be listening first
+for _ in $(seq 1 30); do
+  if (echo > "/dev/tcp/127.0.0.1/$IDP_PORT") 2>/dev/null; then
+    break
+  fi
+  sleep 1
+done
+
+############################################
+# Travel Service
+############################################
+
+echo "🚀 Starting travel-service (profiles: ${PROFILES:-default}); log: $OUT/service.log"
+mkdir -p "$OUT"
+java -jar "$JAR" \
+  --server.port="$SERVICE_PORT" \
+  --spring.profiles.active="$PROFILES" \
+  --spring.security.oauth2.resourceserver.jwt.issuer-uri="http://127.0.0.1:$IDP_PORT/realms/corporate-travel" \
+  --security.jwks.enabled=true \
+  --security.jwks.cache-file="$WORK_DIR/jwks.json" \
+  --opa.url="http://127.0.0.1:$OPA_PORT" \
+  --opa.evaluator=http \
+  --logging.level.com.corporate.travel=WARN \
+  --logging.level.org.hibernate.SQL=WARN \
+  --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+  > "$OUT/service.log" 2>&1 &
+PIDS+=($!)
+
+############################################
+# Run
+############################################
+
+STATUS=0
+wait "$HARNESS_PID" || STATUS=$?
+
+if [[ $STATUS -eq 1 ]]; then
+  echo "❌ Load harness failed; last lines of $OUT/service.log:"
+  tail -n 30 "$OUT/service.log"
+fi
+exit "$STATUS"
@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+
+set -euo pipefail
+
+############################################
+# Usage
+############################################
+
+usage() {
+  cat <<EOF
+Re-attach a travel.bookings partition archived by travel-service
+(a bookings_yYYYYmMM.csv.gz file from booking.partitions.archive.directory).
+
+Usage:
+  $0 --host HOST --port PORT --db DATABASE --user USER --password PASSWORD --file FILE
+
+Example:
+  $0 --host localhost --port 5432 --db corporate_travel --user admin --password admin123 \\
+     --file /var/lib/travel-service/booking-archive/bookings_y2023m01.csv.gz
+EOF
+  exit 1
+}
+
+############################################
+# Parse Arguments
+############################################
+
+FILE=""
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --host)
+      export PGHOST="$2"
+      shift 2
+      ;;
+    --port)
+      export PGPORT="$2"
+      shift 2
+      ;;
+    --db)
+      export PGDATABASE="$2"
+      shift 2
+      ;;
+    --user)
+      export PGUSER="$2"
+      shift 2
+      ;;
+    --password)
+      export PGPASSWORD="$2"
+      shift 2
+      ;;
+    --file)
+      FILE="$2"
+      shift 2
+      ;;
+    *)
+      echo "Unknown parameter: $1"
+      usage
+      ;;
+  esac
+done
+
+[[ -n "$FILE" ]] || usage
+[[ -f "$FILE" ]] || { echo "No such file: $FILE"; exit 1; }
+
+############################################
+# Partition Bounds
+############################################
+
+PARTITION=$(basename "$FILE" .csv.gz)
+if [[ ! "$PARTITION" =~ ^bookings_y([0-9]{4})m([0-9]{2})$ ]]; then
+  echo "Not an archived booking partition: $FILE"
+  exit 1
+fi
+MONTH_START="${BASH_REMATCH[1]}-${BASH_REMATCH[2]}-01"
+
+############################################
+# Restore
+############################################
+
+# One transaction: the partition appears complete or not at all. The comment
+# keeps the service from archiving it again.
+psql -v ON_ERROR_STOP=1 <<SQL
+BEGIN;
+CREATE TABLE travel.${PARTITION} (LIKE travel.bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+\copy travel.${PARTITION} FROM PROGRAM 'gzip -dc "${FILE}"' WITH (FORMAT csv, HEADER)
+ALTER TABLE travel.bookings ATTACH PARTITION travel.${PARTITION}
+  FOR VALUES FROM ('${MONTH_START}') TO ('${MONTH_START}'::date + INTERVAL '1 month');
+COMMENT ON TABLE travel.${PARTITION} IS 'restored from archive';
+COMMIT;
+SQL
+
+echo "Restored travel.${PARTITION} from ${FILE}"
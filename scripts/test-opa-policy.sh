@@ -190,6 +190,42 @@ else
 fi
 echo ""
 
+# Test 6: Batch decisions are positional
+echo "Test 6: Batch authorization over mixed-tenant bookings"
+RESULT=$(curl -s -X POST http://localhost:8181/v1/data/corporate/travel/authorization/batch_allow \
+  -H "Content-Type: application/json" \
+  -d '{
+    "input": {
+      "user": {
+        "user_id": "alice",
+        "tenant_id": "tenant-a",
+        "roles": ["employee"]
+      },
+      "action": "view_booking",
+      "resources": [
+        {"type": "booking", "tenant_id": "tenant-a", "user_id": "alice"},
+        {"type": "booking", "tenant_id": "tenant-b", "user_id": "eve"},
+        {"type": "booking", "tenant_id": "tenant-a", "user_id": "carol"}
+      ],
+      "delegation": {
+        "active": false
+      },
+      "consent": {
+        "valid": false,
+        "scopes": []
+      }
+    }
+  }')
+
+DECISIONS=$(echo $RESULT | jq -c '.result')
+if [ "$DECISIONS" == "[true,false,false]" ]; then
+    echo "✅ PASS: Batch returns one decision per resource"
+else
+    echo "❌ FAIL: Batch should return [true,false,false]"
+    echo "Response: $RESULT"
+fi
+echo ""
+
 echo "✨ OPA Policy Tests Complete!"
 echo ""
 echo "📝 Note: These tests verify the authorization policies work as expected."
@@ -1,9 +1,44 @@
 package com.corporate.travel.models;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Booking lifecycle: DRAFT -> PENDING -> SUBMITTED -> CONFIRMED, and any
+ * booking that is not yet cancelled may be cancelled
+ */
 public enum BookingStatus {
     DRAFT,
     PENDING,
     SUBMITTED,
     CONFIRMED,
-    CANCELLED
+    CANCELLED;
+
+    private static final Map<BookingStatus, Set<BookingStatus>> TRANSITIONS = new EnumMap<>(BookingStatus.class);
+
+    static {
+        TRANSITIONS.put(DRAFT, EnumSet.of(PENDING, CANCELLED));
+        TRANSITIONS.put(PENDING, EnumSet.of(SUBMITTED, CANCELLED));
+        TRANSITIONS.put(SUBMITTED, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(CANCELLED));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(BookingStatus.class));
+    }
+
+    /**
+     * Statuses this one may move to directly
+     */
+    public Set<BookingStatus> nextStatuses() {
+        return Collections.unmodifiableSet(TRANSITIONS.get(this));
+    }
+
+    public boolean canTransitionTo(BookingStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    public boolean isTerminal() {
+        return TRANSITIONS.get(this).isEmpty();
+    }
 }
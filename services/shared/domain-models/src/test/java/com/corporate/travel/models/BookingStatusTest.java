@@ -0,0 +1,61 @@
+package com.corporate.travel.models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+
+import static com.corporate.travel.models.BookingStatus.CANCELLED;
+import static com.corporate.travel.models.BookingStatus.CONFIRMED;
+import static com.corporate.travel.models.BookingStatus.DRAFT;
+import static com.corporate.travel.models.BookingStatus.PENDING;
+import static com.corporate.travel.models.BookingStatus.SUBMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingStatusTest {
+
+    @Test
+    void movesForwardOneStepAtATime() {
+        assertThat(DRAFT.nextStatuses()).containsExactlyInAnyOrder(PENDING, CANCELLED);
+        assertThat(PENDING.nextStatuses()).containsExactlyInAnyOrder(SUBMITTED, CANCELLED);
+        assertThat(SUBMITTED.nextStatuses()).containsExactlyInAnyOrder(CONFIRMED, CANCELLED);
+        assertThat(CONFIRMED.nextStatuses()).containsExactly(CANCELLED);
+    }
+
+    @Test
+    void neverSkipsOrGoesBack() {
+        assertThat(DRAFT.canTransitionTo(SUBMITTED)).isFalse();
+        assertThat(PENDING.canTransitionTo(CONFIRMED)).isFalse();
+        assertThat(SUBMITTED.canTransitionTo(PENDING)).isFalse();
+        assertThat(CONFIRMED.canTransitionTo(DRAFT)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingStatus.class)
+    void neverTransitionsToItself(BookingStatus status) {
+        assertThat(status.canTransitionTo(status)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BookingStatus.class, names = "CANCELLED", mode = EnumSource.Mode.EXCLUDE)
+    void canBeCancelledUntilCancelled(BookingStatus status) {
+        assertThat(status.canTransitionTo(CANCELLED)).isTrue();
+        assertThat(status.isTerminal()).isFalse();
+    }
+
+    @Test
+    void cancelledIsTheOnlyTerminalStatus() {
+        assertThat(CANCELLED.isTerminal()).isTrue();
+        assertThat(CANCELLED.nextStatuses()).isEmpty();
+        assertThat(EnumSet.allOf(BookingStatus.class)).filteredOn(BookingStatus::isTerminal).containsExactly(CANCELLED);
+    }
+
+    @Test
+    void nextStatusesCannotBeModified() {
+        assertThatThrownBy(() -> DRAFT.nextStatuses().add(CONFIRMED))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(DRAFT.canTransitionTo(CONFIRMED)).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.corporate.travel.observability;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which fast, successful traces are kept
+ *
+ * Keeps {@code ratio} of them, but never more than {@code maxPerSecond}: each
+ * one-second window the ratio is lowered to what the previous window's traffic
+ * allows, and a hard cap absorbs bursts within a window. The decision is a
+ * function of the trace id, so services sampling at the same ratio keep the
+ * same traces.
+ */
+final class FastTraceSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratio;
+    private final double maxPerSecond;
+
+    private long windowStart = System.nanoTime();
+    private long offered;
+    private long kept;
+    private double effectiveRatio;
+
+    FastTraceSampler(double ratio, double maxPerSecond) {
+        this.ratio = ratio;
+        this.maxPerSecond = maxPerSecond;
+        this.effectiveRatio = ratio;
+    }
+
+    synchronized boolean sample(String traceId) {
+        long now = System.nanoTime();
+        if (now - windowStart >= WINDOW_NANOS) {
+            effectiveRatio = offered == 0 ? ratio : Math.min(ratio, maxPerSecond / offered);
+            windowStart = now;
+            offered = 0;
+            kept = 0;
+        }
+        offered++;
+        if (kept >= maxPerSecond || position(traceId) >= effectiveRatio) {
+            return false;
+        }
+        kept++;
+        return true;
+    }
+
+    synchronized double effectiveRatio() {
+        return effectiveRatio;
+    }
+
+    /**
+     * Uniform position in [0, 1) from the random low 64 bits of a W3C trace id
+     */
+    static double position(String traceId) {
+        long random = Long.parseUnsignedLong(traceId, traceId.length() - 16, traceId.length(), 16);
+        return (random >>> 11) * 0x1.0p-53;
+    }
+}
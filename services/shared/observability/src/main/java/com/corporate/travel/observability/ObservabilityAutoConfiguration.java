@@ -0,0 +1,165 @@
+package com.corporate.travel.observability;
+
+import com.corporate.travel.security.PolicyEvaluator;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * Domain metrics for every service that depends on this module
+ *
+ * Adds, on top of Spring Boot's HTTP, JVM and cache metrics:
+ * - {@code opa.evaluation} / {@code opa.decisions} - policy evaluator latency and outcomes
+ * - {@code db.repository.invocations} - time per method of {@code @Repository} classes
+ * - {@code http.server.tenant.requests} - request rate per tenant
+ *
+ * Method timing uses infrastructure advisors, applied by the auto-proxy creator
+ * Spring Boot registers in every application. Targets that are already Spring
+ * proxies (such as Spring Data repositories) are left alone.
+ * Every tag has a small, fixed set of values, apart from tenant which is capped.
+ */
+@AutoConfiguration(after = CompositeMeterRegistryAutoConfiguration.class)
+@ConditionalOnClass(MeterRegistry.class)
+@EnableConfigurationProperties(ObservabilityProperties.class)
+@Slf4j
+public class ObservabilityAutoConfiguration {
+
+    /**
+     * Just inside the Spring Security filter chain
+     */
+    static final int TENANT_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 10;
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    /**
+     * Histogram buckets for the new timers, so p95/p99 can be aggregated across instances
+     */
+    @Bean
+    public MeterFilter observabilityHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id,
+                                                         DistributionStatisticConfig config) {
+                String name = id.getName();
+                if (name.equals(PolicyEvaluatorMetrics.EVALUATION) || name.equals(RepositoryMetrics.INVOCATIONS)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .minimumExpectedValue((double) MIN_EXPECTED.toNanos())
+                            .maximumExpectedValue((double) MAX_EXPECTED.toNanos())
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.corporate.travel.security.PolicyEvaluator")
+    @ConditionalOnProperty(prefix = "observability.opa", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class PolicyEvaluatorMetricsConfiguration {
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        static Advisor policyEvaluatorMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+            ClassFilter evaluators = type -> PolicyEvaluator.class.isAssignableFrom(type)
+                    && !SpringProxy.class.isAssignableFrom(type);
+            return new DefaultPointcutAdvisor(
+                    new ComposablePointcut(evaluators, PublicMethods.INSTANCE),
+                    new PolicyEvaluatorMetrics(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "observability.repositories", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class RepositoryMetricsConfiguration {
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+            ClassFilter repositories = new AnnotationClassFilter(Repository.class, true);
+            ClassFilter notProxied = type -> !SpringProxy.class.isAssignableFrom(type);
+            return new DefaultPointcutAdvisor(
+                    new ComposablePointcut(repositories, PublicMethods.INSTANCE).intersection(notProxied),
+                    new RepositoryMetrics(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken")
+    @ConditionalOnProperty(prefix = "observability.tenants", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnBean(MeterRegistry.class)
+    static class TenantRequestMetricsConfiguration {
+
+        @Bean
+        public MeterFilter tenantCardinalityFilter(ObservabilityProperties properties) {
+            int maxTenants = properties.getTenants().getMaxTenants();
+            return MeterFilter.maximumAllowableTags(TenantRequestMetrics.REQUESTS, "tenant", maxTenants,
+                    new MeterFilter() {
+                        @Override
+                        public MeterFilterReply accept(Meter.Id id) {
+                            log.warn("More than {} tenants seen; not recording {} for tenant {}",
+                                    maxTenants, TenantRequestMetrics.REQUESTS, id.getTag("tenant"));
+                            return MeterFilterReply.DENY;
+                        }
+                    });
+        }
+
+        @Bean
+        public TenantRequestMetrics tenantRequestMetrics(MeterRegistry meterRegistry,
+                                                         ObservabilityProperties properties) {
+            return new TenantRequestMetrics(meterRegistry, properties.getTenants().getClaim());
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        static class Servlet {
+
+            @Bean
+            public FilterRegistrationBean<TenantRequestMetricsFilter> tenantRequestMetricsFilter(
+                    TenantRequestMetrics metrics) {
+                FilterRegistrationBean<TenantRequestMetricsFilter> registration =
+                        new FilterRegistrationBean<>(new TenantRequestMetricsFilter(metrics));
+                registration.setOrder(TENANT_FILTER_ORDER);
+                return registration;
+            }
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+        static class Reactive {
+
+            @Bean
+            public TenantRequestMetricsWebFilter tenantRequestMetricsWebFilter(TenantRequestMetrics metrics) {
+                return new TenantRequestMetricsWebFilter(metrics);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.corporate.travel.observability;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Metrics and tracing configuration bound from the {@code observability.*} properties
+ */
+@ConfigurationProperties(prefix = "observability")
+@Data
+public class ObservabilityProperties {
+
+    /**
+     * OPA evaluation latency and decision outcomes
+     */
+    private Opa opa = new Opa();
+
+    /**
+     * Query time per repository method
+     */
+    private Repositories repositories = new Repositories();
+
+    /**
+     * Request rate per tenant
+     */
+    private Tenants tenants = new Tenants();
+
+    /**
+     * Spans for services, repositories and policy evaluators, and which traces are exported
+     */
+    private Tracing tracing = new Tracing();
+
+    @Data
+    public static class Opa {
+
+        /**
+         * Time every PolicyEvaluator call and count its decisions
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Repositories {
+
+        /**
+         * Time every public method of @Repository classes (Spring Data repositories
+         * are already timed by Spring Boot as spring.data.repository.invocations)
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Tenants {
+
+        /**
+         * Count requests per tenant
+         */
+        private boolean enabled = true;
+
+        /**
+         * JWT claim holding the tenant
+         */
+        private String claim = "tenant_id";
+
+        /**
+         * Distinct tenant tag values before further tenants stop being recorded
+         */
+        private int maxTenants = 100;
+    }
+
+    @Data
+    public static class Tracing {
+
+        /**
+         * Observe @Service, @Repository and PolicyEvaluator methods and tail-sample traces
+         */
+        private boolean enabled = true;
+
+        /**
+         * Where kept spans go
+         */
+        private Exporter exporter = Exporter.FILE;
+
+        /**
+         * OTLP/HTTP traces endpoint (exporter=otlp)
+         */
+        private String otlpEndpoint = "http://localhost:4318/v1/traces";
+
+        /**
+         * JSON-lines output, one span per line (exporter=file)
+         */
+        private Path file = Path.of(System.getProperty("java.io.tmpdir"), "traces.jsonl");
+
+        /**
+         * Tail-sampling rules
+         */
+        private Sampling sampling = new Sampling();
+
+        public enum Exporter {
+            OTLP,
+            FILE,
+            NONE
+        }
+    }
+
+    @Data
+    public static class Sampling {
+
+        /**
+         * Traces whose local root span takes at least this long are always kept
+         */
+        private Duration slowThreshold = Duration.ofMillis(500);
+
+        /**
+         * Share of fast, successful traces kept while under the rate limit
+         */
+        private double fastRatio = 0.05;
+
+        /**
+         * Upper bound on fast, successful traces kept per second; the effective ratio
+         * drops as traffic grows so export volume stays flat
+         */
+        private double maxFastPerSecond = 5;
+
+        /**
+         * Traces buffered while waiting for their local root span to end
+         */
+        private int maxPendingTraces = 10000;
+
+        /**
+         * Spans buffered per trace; later spans of a huge trace are dropped
+         */
+        private int maxSpansPerTrace = 1000;
+
+        /**
+         * Buffered traces whose root never ends are discarded after this long
+         */
+        private Duration pendingTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,32 @@
+package com.corporate.travel.observability;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+
+import java.util.Arrays;
+
+/**
+ * Adds the {@link ObservedMethodInterceptor} advisor to matching beans
+ *
+ * Unlike an auto-proxy creator, this also reaches beans that already are
+ * proxies - Spring Data repositories and {@code @Transactional} services - by
+ * adding the advisor to the existing proxy, ahead of its other advisors so the
+ * span covers the transaction. A bean exposed under two names is advised once.
+ */
+class ObservedBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    ObservedBeanPostProcessor(Advisor advisor) {
+        this.advisor = advisor;
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    protected boolean isEligible(Object bean, String beanName) {
+        if (bean instanceof Advised advised && Arrays.asList(advised.getAdvisors()).contains(advisor)) {
+            return false;
+        }
+        return super.isEligible(bean, beanName);
+    }
+}
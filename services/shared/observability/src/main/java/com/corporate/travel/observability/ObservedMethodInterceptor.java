@@ -0,0 +1,115 @@
+package com.corporate.travel.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a method call in a Micrometer {@link Observation}, which the tracing bridge turns into a span
+ *
+ * Follows the {@code @Observed} conventions: observation {@code method.observed},
+ * span name {@code Class#method}, low-cardinality keys {@code class} and
+ * {@code method}. For Spring Data repositories the class is the repository
+ * interface rather than the generated proxy.
+ *
+ * Blocking calls run with the observation in scope, so nested calls (the OPA
+ * WebClient, repositories) become child spans. Mono and Flux results are
+ * observed from subscription to termination, with the observation in the
+ * Reactor context for their own children.
+ */
+class ObservedMethodInterceptor implements MethodInterceptor {
+
+    static final String OBSERVATION_NAME = "method.observed";
+
+    private static final boolean REACTOR_PRESENT =
+            ClassUtils.isPresent("reactor.core.publisher.Mono", ObservedMethodInterceptor.class.getClassLoader());
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final Map<Class<?>, String> classNames = new ConcurrentHashMap<>();
+
+    ObservedMethodInterceptor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        if (registry.isNoop()) {
+            return invocation.proceed();
+        }
+        String className = className(invocation);
+        String method = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, registry)
+                .contextualName(className + "#" + method)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", method);
+
+        if (REACTOR_PRESENT && Reactive.isPublisher(invocation.getMethod().getReturnType())) {
+            return Reactive.observe(observation, invocation.proceed());
+        }
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private String className(MethodInvocation invocation) {
+        Object bean = invocation instanceof ProxyMethodInvocation proxied ? proxied.getProxy() : invocation.getThis();
+        return classNames.computeIfAbsent(bean.getClass(), type -> {
+            if (Proxy.isProxyClass(type)) {
+                // Spring Data repository: name it after the application's repository interface
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (!candidate.getName().startsWith("org.springframework.")) {
+                        return candidate.getSimpleName();
+                    }
+                }
+            }
+            return ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis())).getSimpleName();
+        });
+    }
+
+    /**
+     * Kept apart so services without Reactor never load these types
+     */
+    private static final class Reactive {
+
+        static boolean isPublisher(Class<?> returnType) {
+            return Mono.class.isAssignableFrom(returnType) || Flux.class.isAssignableFrom(returnType);
+        }
+
+        static Object observe(Observation observation, Object result) {
+            if (result instanceof Mono<?> mono) {
+                return mono
+                        .doOnSubscribe(subscription -> observation.start())
+                        .doOnError(observation::error)
+                        .doFinally(signal -> observation.stop())
+                        .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+            }
+            if (result instanceof Flux<?> flux) {
+                return flux
+                        .doOnSubscribe(subscription -> observation.start())
+                        .doOnError(observation::error)
+                        .doFinally(signal -> observation.stop())
+                        .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.corporate.travel.observability;
+
+import com.corporate.travel.security.PolicyEvaluator;
+import com.corporate.travel.security.ResidualPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times {@link PolicyEvaluator} calls and counts the decisions they return
+ *
+ * Meters:
+ * - {@code opa.evaluation} (timer) - evaluator, rule, outcome (success, empty, error, cancelled)
+ * - {@code opa.decisions} (counter) - rule, decision (allow, deny, conditional, error)
+ *
+ * The evaluator sits behind the decision cache, so these are the decisions
+ * actually sent to OPA; cache hits show up in {@code cache.gets{cache="opa.decisions"}}.
+ * A batch counts one decision per resource. An empty or failed evaluation counts
+ * as error, matching the deny the client falls back to.
+ */
+class PolicyEvaluatorMetrics implements MethodInterceptor {
+
+    static final String EVALUATION = "opa.evaluation";
+    static final String DECISIONS = "opa.decisions";
+
+    private static final Map<String, String> RULES = Map.of(
+            "evaluate", "allow",
+            "evaluateBatch", "batch_allow",
+            "partialEvaluate", "compile");
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> evaluatorNames = new ConcurrentHashMap<>();
+
+    PolicyEvaluatorMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String rule = RULES.get(invocation.getMethod().getName());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (rule == null || registry == null) {
+            return invocation.proceed();
+        }
+        String evaluator = evaluatorNames.computeIfAbsent(
+                AopUtils.getTargetClass(invocation.getThis()), PolicyEvaluatorMetrics::evaluatorName);
+        int decisions = decisionCount(invocation.getArguments()[0]);
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            record(registry, evaluator, rule, "error", start);
+            count(registry, rule, "error", decisions);
+            throw e;
+        }
+        if (!(result instanceof Mono<?> mono)) {
+            return result;
+        }
+        return Mono.defer(() -> {
+            long subscribed = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> {
+                        record(registry, evaluator, rule, value == null ? "empty" : "success", subscribed);
+                        countResult(registry, rule, value, decisions);
+                    })
+                    .doOnError(e -> {
+                        record(registry, evaluator, rule, "error", subscribed);
+                        count(registry, rule, "error", decisions);
+                    })
+                    .doOnCancel(() -> record(registry, evaluator, rule, "cancelled", subscribed));
+        });
+    }
+
+    private void countResult(MeterRegistry registry, String rule, Object value, int decisions) {
+        if (value instanceof Boolean allowed) {
+            count(registry, rule, allowed ? "allow" : "deny", 1);
+        } else if (value instanceof List<?> batch) {
+            long allowed = batch.stream().filter(Boolean.TRUE::equals).count();
+            count(registry, rule, "allow", allowed);
+            count(registry, rule, "deny", batch.size() - allowed);
+        } else if (value instanceof ResidualPolicy residual) {
+            count(registry, rule, decision(residual), 1);
+        } else {
+            count(registry, rule, "error", decisions);
+        }
+    }
+
+    private void record(MeterRegistry registry, String evaluator, String rule, String outcome, long start) {
+        timers.computeIfAbsent(evaluator + '|' + rule + '|' + outcome, key -> Timer.builder(EVALUATION)
+                        .description("PolicyEvaluator call latency")
+                        .tag("evaluator", evaluator)
+                        .tag("rule", rule)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void count(MeterRegistry registry, String rule, String decision, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        counters.computeIfAbsent(rule + '|' + decision, key -> Counter.builder(DECISIONS)
+                        .description("Authorization decisions returned by the policy evaluator")
+                        .tag("rule", rule)
+                        .tag("decision", decision)
+                        .register(registry))
+                .increment(amount);
+    }
+
+    private static String decision(ResidualPolicy residual) {
+        if (residual.isDenyAll()) {
+            return "deny";
+        }
+        return residual.queries().stream().anyMatch(List::isEmpty) ? "allow" : "conditional";
+    }
+
+    /**
+     * Number of decisions a call stands for: one per resource of a batch, otherwise one
+     */
+    private static int decisionCount(Object input) {
+        if (input instanceof Map<?, ?> map && map.get("resources") instanceof Collection<?> resources) {
+            return Math.max(resources.size(), 1);
+        }
+        return 1;
+    }
+
+    /**
+     * HttpOpaPolicyEvaluator -> http-opa, InProcessPolicyEvaluator -> in-process
+     */
+    private static String evaluatorName(Class<?> type) {
+        String name = ClassUtils.getUserClass(type).getSimpleName().replace("PolicyEvaluator", "");
+        return name.isEmpty() ? "default" : name.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
+    }
+}
@@ -0,0 +1,22 @@
+package com.corporate.travel.observability;
+
+import org.springframework.aop.support.StaticMethodMatcher;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Public methods declared below Object, so toString/equals/hashCode are not instrumented
+ */
+final class PublicMethods extends StaticMethodMatcher {
+
+    static final PublicMethods INSTANCE = new PublicMethods();
+
+    private PublicMethods() {
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+}
@@ -0,0 +1,106 @@
+package com.corporate.travel.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each method of a {@code @Repository} class
+ *
+ * Recorded as {@code db.repository.invocations} with the tags Spring Boot uses
+ * for Spring Data repositories (repository, method, state, exception), so both
+ * can be charted side by side. Mono and Flux results are timed from
+ * subscription to termination, which is when an R2DBC query actually runs.
+ */
+class RepositoryMetrics implements MethodInterceptor {
+
+    static final String INVOCATIONS = "db.repository.invocations";
+
+    private static final boolean REACTOR_PRESENT =
+            ClassUtils.isPresent("reactor.core.publisher.Mono", RepositoryMetrics.class.getClassLoader());
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    RepositoryMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        String repository = ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis())).getSimpleName();
+        String method = invocation.getMethod().getName();
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            record(registry, repository, method, "ERROR", e, start);
+            throw e;
+        }
+        if (REACTOR_PRESENT) {
+            Object timed = Reactive.time(this, registry, repository, method, result);
+            if (timed != null) {
+                return timed;
+            }
+        }
+        record(registry, repository, method, "SUCCESS", null, start);
+        return result;
+    }
+
+    void record(MeterRegistry registry, String repository, String method, String state, Throwable error, long start) {
+        String exception = error == null ? "None" : error.getClass().getSimpleName();
+        timers.computeIfAbsent(repository + '|' + method + '|' + state + '|' + exception, key -> Timer.builder(INVOCATIONS)
+                        .description("Repository method execution time")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .tag("state", state)
+                        .tag("exception", exception)
+                        .register(registry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Kept apart so services without Reactor never load these types
+     */
+    private static final class Reactive {
+
+        static Object time(RepositoryMetrics metrics, MeterRegistry registry, String repository, String method,
+                           Object result) {
+            if (result instanceof Mono<?> mono) {
+                return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return mono
+                            .doOnSuccess(value -> metrics.record(registry, repository, method, "SUCCESS", null, start))
+                            .doOnError(e -> metrics.record(registry, repository, method, "ERROR", e, start))
+                            .doOnCancel(() -> metrics.record(registry, repository, method, "CANCELED", null, start));
+                });
+            }
+            if (result instanceof Flux<?> flux) {
+                return Flux.defer(() -> {
+                    long start = System.nanoTime();
+                    return flux
+                            .doOnComplete(() -> metrics.record(registry, repository, method, "SUCCESS", null, start))
+                            .doOnError(e -> metrics.record(registry, repository, method, "ERROR", e, start))
+                            .doOnCancel(() -> metrics.record(registry, repository, method, "CANCELED", null, start));
+                });
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.corporate.travel.observability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tail-based sampling in front of an exporting span processor
+ *
+ * Spans are held per trace until the trace's local root span (no parent, or a
+ * remote parent) ends in this process. The whole trace is then forwarded to the
+ * delegate if it
+ * - has a span with error status or a 5xx outcome (kept as "error"),
+ * - took at least {@code slowThreshold} at the local root (kept as "slow"), or
+ * - is picked by the {@link FastTraceSampler} (kept as "sampled"),
+ * and dropped otherwise. Spans ending after the decision follow it.
+ *
+ * Memory is bounded by {@code maxPendingTraces} x {@code maxSpansPerTrace};
+ * traces whose root never ends here are discarded after {@code pendingTimeout}.
+ * Decisions are counted in {@code tracing.tail.decisions{decision}}.
+ */
+class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    private static final String SERVER_ERROR = "SERVER_ERROR";
+
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final int maxSpansPerTrace;
+    private final FastTraceSampler fastSampler;
+    private final Cache<String, PendingTrace> pending;
+    private final Cache<String, Boolean> decided;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    TailSamplingSpanProcessor(SpanProcessor delegate, ObservabilityProperties.Sampling sampling,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = sampling.getSlowThreshold().toNanos();
+        this.maxSpansPerTrace = sampling.getMaxSpansPerTrace();
+        this.fastSampler = new FastTraceSampler(sampling.getFastRatio(), sampling.getMaxFastPerSecond());
+        this.meterRegistry = meterRegistry;
+        this.pending = Caffeine.newBuilder()
+                .maximumSize(sampling.getMaxPendingTraces())
+                .expireAfterWrite(sampling.getPendingTimeout())
+                .removalListener((String traceId, PendingTrace trace, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        count("incomplete");
+                    }
+                })
+                .build();
+        this.decided = Caffeine.newBuilder()
+                .maximumSize(sampling.getMaxPendingTraces())
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        Boolean keep = decided.getIfPresent(traceId);
+        if (keep != null) {
+            if (keep) {
+                delegate.onEnd(span);
+            }
+            return;
+        }
+
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            pending.get(traceId, id -> new PendingTrace()).add(span, isFailure(span), maxSpansPerTrace);
+            // The root may have been decided while this span was being added
+            Boolean late = decided.getIfPresent(traceId);
+            PendingTrace orphan = late != null ? pending.asMap().remove(traceId) : null;
+            if (orphan != null && late) {
+                orphan.spans().forEach(delegate::onEnd);
+            }
+            return;
+        }
+
+        // Local root ended: decide for the whole trace
+        PendingTrace trace = pending.asMap().remove(traceId);
+        String decision;
+        if (isFailure(span) || (trace != null && trace.failed())) {
+            decision = "error";
+        } else if (span.getLatencyNanos() >= slowThresholdNanos) {
+            decision = "slow";
+        } else if (fastSampler.sample(traceId)) {
+            decision = "sampled";
+        } else {
+            decision = "dropped";
+        }
+        keep = !decision.equals("dropped");
+        decided.put(traceId, keep);
+        count(decision);
+        if (keep) {
+            if (trace != null) {
+                trace.spans().forEach(delegate::onEnd);
+            }
+            delegate.onEnd(span);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.invalidateAll();
+        return delegate.shutdown();
+    }
+
+    private static boolean isFailure(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR
+                || SERVER_ERROR.equals(span.getAttribute(OUTCOME));
+    }
+
+    private void count(String decision) {
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return;
+        }
+        counters.computeIfAbsent(decision, key -> Counter.builder("tracing.tail.decisions")
+                        .description("Tail-sampling decisions per local trace")
+                        .tag("decision", key)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Resolved on first use: the tracer provider is built before most meter binders
+     */
+    private MeterRegistry registry() {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            synchronized (this) {
+                if (this.registry == null && (registry = meterRegistry.getIfAvailable()) != null) {
+                    Gauge.builder("tracing.tail.effective.ratio", fastSampler, FastTraceSampler::effectiveRatio)
+                            .description("Share of fast, successful traces currently kept")
+                            .register(registry);
+                    Gauge.builder("tracing.tail.pending", pending, Cache::estimatedSize)
+                            .description("Traces buffered until their local root span ends")
+                            .register(registry);
+                    this.registry = registry;
+                }
+                registry = this.registry;
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Ended spans of a trace whose local root is still running
+     */
+    private static final class PendingTrace {
+
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        private boolean failed;
+
+        synchronized void add(ReadableSpan span, boolean failure, int maxSpans) {
+            failed |= failure;
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            }
+        }
+
+        synchronized boolean failed() {
+            return failed;
+        }
+
+        synchronized List<ReadableSpan> spans() {
+            return new ArrayList<>(spans);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.corporate.travel.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts requests per tenant as {@code http.server.tenant.requests} (tenant, outcome)
+ *
+ * The tenant comes from a claim of the request's JWT; requests without one are
+ * tagged {@code none}. Tenant values are capped by {@code observability.tenants.max-tenants}.
+ * Shared by the servlet filter and the WebFlux filter.
+ */
+class TenantRequestMetrics {
+
+    static final String REQUESTS = "http.server.tenant.requests";
+    static final String NO_TENANT = "none";
+
+    private final MeterRegistry registry;
+    private final String claim;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    TenantRequestMetrics(MeterRegistry registry, String claim) {
+        this.registry = registry;
+        this.claim = claim;
+    }
+
+    String tenant(Object principal) {
+        if (principal instanceof JwtAuthenticationToken token && token.isAuthenticated()) {
+            String tenant = token.getToken().getClaimAsString(claim);
+            return tenant != null ? tenant : NO_TENANT;
+        }
+        return NO_TENANT;
+    }
+
+    void record(String tenant, int status) {
+        String outcome = Outcome.forStatus(status).name();
+        counters.computeIfAbsent(tenant + '|' + outcome, key -> Counter.builder(REQUESTS)
+                        .description("Requests per tenant")
+                        .tag("tenant", tenant)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .increment();
+    }
+}
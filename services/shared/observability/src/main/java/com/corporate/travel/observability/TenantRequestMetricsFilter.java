@@ -0,0 +1,38 @@
+package com.corporate.travel.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter recording {@link TenantRequestMetrics}
+ *
+ * Registered after the Spring Security filter chain, so the JWT has already
+ * been authenticated when the tenant is read.
+ */
+class TenantRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final TenantRequestMetrics metrics;
+
+    TenantRequestMetricsFilter(TenantRequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String tenant = metrics.tenant(SecurityContextHolder.getContext().getAuthentication());
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            metrics.record(tenant, status);
+        }
+    }
+}
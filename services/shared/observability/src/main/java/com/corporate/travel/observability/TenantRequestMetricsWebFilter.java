@@ -0,0 +1,46 @@
+package com.corporate.travel.observability;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * WebFlux filter recording {@link TenantRequestMetrics}
+ *
+ * Ordered after the Spring Security web filter, which exposes the
+ * authenticated JWT as the exchange principal.
+ */
+class TenantRequestMetricsWebFilter implements WebFilter, Ordered {
+
+    private final TenantRequestMetrics metrics;
+
+    TenantRequestMetricsWebFilter(TenantRequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return exchange.getPrincipal()
+                .map(metrics::tenant)
+                .defaultIfEmpty(TenantRequestMetrics.NO_TENANT)
+                .flatMap(tenant -> chain.filter(exchange)
+                        .doFinally(signal -> {
+                            HttpStatusCode status = exchange.getResponse().getStatusCode();
+                            if (signal == SignalType.ON_ERROR) {
+                                // Unhandled errors are rendered after the filter chain
+                                metrics.record(tenant, 500);
+                            } else {
+                                metrics.record(tenant, status != null ? status.value() : 200);
+                            }
+                        }));
+    }
+
+    @Override
+    public int getOrder() {
+        return ObservabilityAutoConfiguration.TENANT_FILTER_ORDER;
+    }
+}
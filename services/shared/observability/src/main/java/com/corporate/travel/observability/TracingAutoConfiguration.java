@@ -0,0 +1,100 @@
+package com.corporate.travel.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.actuate.autoconfigure.tracing.SdkTracerProviderBuilderCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Tracing with tail-based sampling for every service that depends on this module
+ *
+ * Spring Boot already creates spans for incoming HTTP requests and for WebClient
+ * calls (including OPA), and propagates W3C trace context on the latter. This adds:
+ * - a span per public method of {@code @Service}, {@code @Repository} and
+ *   {@code PolicyEvaluator} beans ({@link ObservedMethodInterceptor})
+ * - an always-on head sampler, so every trace is recorded in-process
+ * - a {@link TailSamplingSpanProcessor} that exports only failed, slow and a
+ *   rate-limited share of fast traces, through {@code observability.tracing.exporter}
+ *
+ * Recording is cheap compared to exporting; the export volume stays bounded at
+ * any traffic level. Spring Boot's own span processor has no exporter (no
+ * {@code management.otlp.tracing.endpoint}), so nothing bypasses the tail sampler.
+ */
+@AutoConfiguration(beforeName = "org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryAutoConfiguration")
+@ConditionalOnClass({SdkTracerProviderBuilderCustomizer.class, SpanProcessor.class, ObservationRegistry.class})
+@ConditionalOnEnabledTracing
+@ConditionalOnProperty(prefix = "observability.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ObservabilityProperties.class)
+@Slf4j
+public class TracingAutoConfiguration {
+
+    private static final String POLICY_EVALUATOR = "com.corporate.travel.security.PolicyEvaluator";
+
+    /**
+     * Record every trace; which ones leave the process is decided at the end
+     */
+    @Bean
+    public Sampler otelSampler() {
+        return Sampler.alwaysOn();
+    }
+
+    @Bean
+    public SdkTracerProviderBuilderCustomizer tailSamplingSpanProcessorCustomizer(ObservabilityProperties properties,
+                                                                                 ObjectProvider<ObjectMapper> objectMapper,
+                                                                                 ObjectProvider<MeterRegistry> meterRegistry)
+            throws IOException {
+        ObservabilityProperties.Tracing tracing = properties.getTracing();
+        SpanExporter exporter = switch (tracing.getExporter()) {
+            case OTLP -> OtlpHttpSpanExporter.builder()
+                    .setEndpoint(tracing.getOtlpEndpoint())
+                    .setTimeout(Duration.ofSeconds(5))
+                    .build();
+            case FILE -> new JsonFileSpanExporter(tracing.getFile(), objectMapper.getIfAvailable(ObjectMapper::new));
+            case NONE -> SpanExporter.composite();
+        };
+        SpanProcessor processor = new TailSamplingSpanProcessor(
+                BatchSpanProcessor.builder(exporter).build(), tracing.getSampling(), meterRegistry);
+        log.info("Tail-sampling traces to {}: slow >= {}, fast ratio {} (max {}/s)",
+                tracing.getExporter(), tracing.getSampling().getSlowThreshold(),
+                tracing.getSampling().getFastRatio(), tracing.getSampling().getMaxFastPerSecond());
+        return builder -> builder.addSpanProcessor(processor);
+    }
+
+    @Bean
+    static ObservedBeanPostProcessor observedBeanPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        ClassFilter observed = ClassFilters.union(
+                new AnnotationClassFilter(Service.class, true),
+                new AnnotationClassFilter(Repository.class, true));
+        if (ClassUtils.isPresent(POLICY_EVALUATOR, TracingAutoConfiguration.class.getClassLoader())) {
+            Class<?> policyEvaluator = ClassUtils.resolveClassName(POLICY_EVALUATOR, TracingAutoConfiguration.class.getClassLoader());
+            observed = ClassFilters.union(observed, policyEvaluator::isAssignableFrom);
+        }
+        return new ObservedBeanPostProcessor(new DefaultPointcutAdvisor(
+                new ComposablePointcut(observed, PublicMethods.INSTANCE),
+                new ObservedMethodInterceptor(observationRegistry)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.corporate.travel.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates policies by calling the OPA server over HTTP
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HttpOpaPolicyEvaluator implements PolicyEvaluator {
+
+    private static final String ALLOW_PATH = "/v1/data/corporate/travel/authorization/allow";
+    private static final String BATCH_ALLOW_PATH = "/v1/data/corporate/travel/authorization/batch_allow";
+    private static final String COMPILE_PATH = "/v1/compile";
+    private static final String ALLOW_QUERY = "data.corporate.travel.authorization.allow == true";
+    private static final ParameterizedTypeReference<Map<String, Object>> OPA_RESPONSE =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient opaWebClient;
+
+    @Override
+    public Mono<Boolean> evaluate(Map<String, Object> input) {
+        Map<String, Object> request = Map.of("input", input);
+
+        return opaWebClient.post()
+                .uri(ALLOW_PATH)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OPA_RESPONSE)
+                .flatMap(response -> {
+                    if (response.containsKey("result")) {
+                        return Mono.just(Boolean.TRUE.equals(response.get("result")));
+                    }
+                    log.warn("OPA returned unexpected response: {}", response);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<List<Boolean>> evaluateBatch(Map<String, Object> input) {
+        Map<String, Object> request = Map.of("input", input);
+
+        return opaWebClient.post()
+                .uri(BATCH_ALLOW_PATH)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OPA_RESPONSE)
+                .flatMap(response -> {
+                    if (response.get("result") instanceof List<?> result) {
+                        return Mono.just(result.stream().map(Boolean.TRUE::equals).toList());
+                    }
+                    log.warn("OPA returned unexpected batch response: {}", response);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Call OPA's Compile API with input.resource unknown
+     */
+    @Override
+    public Mono<ResidualPolicy> partialEvaluate(Map<String, Object> input) {
+        Map<String, Object> request = Map.of(
+                "query", ALLOW_QUERY,
+                "input", input,
+                "unknowns", List.of("input.resource"));
+
+        return opaWebClient.post()
+                .uri(COMPILE_PATH)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OPA_RESPONSE)
+                .map(OpaCompileResultParser::parse);
+    }
+}
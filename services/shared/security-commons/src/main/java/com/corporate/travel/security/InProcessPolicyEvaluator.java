@@ -0,0 +1,261 @@
+package com.corporate.travel.security;
+
+import com.corporate.travel.security.ResidualPolicy.Condition;
+import com.corporate.travel.security.ResidualPolicy.Operator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates the authorization policy in-process, without a network hop to OPA
+ *
+ * This is a rule-for-rule port of infrastructure/opa/policies/authorization.rego.
+ * Each rule is split into a guard over the known part of the input (user,
+ * delegation, consent) and conditions on the resource, so the same table serves
+ * full evaluation and partial evaluation with the resource unknown.
+ *
+ * Undefined values follow Rego semantics: a comparison involving a missing field
+ * is false, while two fields that are present and both null compare equal.
+ * Any change to the Rego policy must be mirrored here and in
+ * opa/conformance-cases.json (security-commons test resources).
+ */
+@Component
+public class InProcessPolicyEvaluator implements PolicyEvaluator {
+
+    private static final List<Rule> RULES = List.of(
+            // Travel Booking Authorization
+            new Rule("view_booking", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceOwner())),
+            new Rule("view_booking", PolicyInput::hasActiveDelegation,
+                    in -> conditions(in.sameTenant(), in.ownedByDelegator())),
+            new Rule("create_booking", in -> in.hasRole("employee"),
+                    in -> conditions(in.sameTenant())),
+            new Rule("create_booking", in -> in.hasActiveDelegation() && in.hasConsentScope("book_travel"),
+                    in -> conditions(in.sameTenant(), in.ownedByDelegator())),
+            new Rule("view_booking", in -> in.hasRole("manager"),
+                    in -> conditions(in.sameTenant(), in.managedByUser())),
+
+            // Expense Authorization
+            new Rule("view_expense", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceOwner())),
+            new Rule("create_expense", in -> in.hasRole("employee"),
+                    in -> conditions(in.sameTenant())),
+            new Rule("submit_expense", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceOwner())),
+            new Rule("view_expense", in -> in.hasRole("manager"),
+                    in -> conditions(in.sameTenant(), in.managedByUser())),
+            new Rule("approve_expense", in -> in.hasRole("manager"),
+                    in -> conditions(in.sameTenant(), in.managedByUser(),
+                            new Condition("status", Operator.EQ, "SUBMITTED"))),
+            new Rule("approve_expense", in -> in.hasActiveDelegation() && in.hasConsentScope("approve_expenses"),
+                    in -> conditions(in.sameTenant(), in.ownedByDelegator())),
+
+            // Approval Workflow Authorization
+            new Rule("view_pending_approvals", in -> in.hasRole("manager"),
+                    in -> conditions(in.sameTenant())),
+            new Rule("view_workflow", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceFieldIsUser("requester_id"))),
+
+            // Delegation Authorization
+            new Rule("create_delegation", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceFieldIsUser("delegator_id"))),
+            new Rule("revoke_delegation", in -> true,
+                    in -> conditions(in.sameTenant(), in.resourceFieldIsUser("delegator_id"))),
+            new Rule("view_delegations", in -> true,
+                    in -> conditions(in.sameTenant())),
+
+            // Admin Authorization: any action within their tenant
+            new Rule(null, in -> in.hasRole("admin"),
+                    in -> conditions(in.sameTenant()))
+    );
+
+    @Override
+    public Mono<Boolean> evaluate(Map<String, Object> input) {
+        return Mono.just(allow(input));
+    }
+
+    @Override
+    public Mono<List<Boolean>> evaluateBatch(Map<String, Object> input) {
+        return Mono.just(batchAllow(input));
+    }
+
+    @Override
+    public Mono<ResidualPolicy> partialEvaluate(Map<String, Object> input) {
+        return Mono.just(residual(input));
+    }
+
+    /**
+     * Mirror of {@code batch_allow}: allow with input.resource bound to each entry of input.resources
+     */
+    public List<Boolean> batchAllow(Map<String, Object> input) {
+        if (!(input.get("resources") instanceof List<?> resources)) {
+            return List.of();
+        }
+        Map<String, Object> single = new HashMap<>(input);
+        single.remove("resources");
+
+        List<Boolean> decisions = new ArrayList<>(resources.size());
+        for (Object resource : resources) {
+            single.put("resource", resource);
+            decisions.add(allow(single));
+        }
+        return decisions;
+    }
+
+    /**
+     * Mirror of {@code allow}
+     */
+    public boolean allow(Map<String, Object> document) {
+        PolicyInput input = new PolicyInput(document);
+        for (Rule rule : RULES) {
+            if (!rule.appliesTo(input)) {
+                continue;
+            }
+            List<Condition> conditions = rule.conditions().apply(input);
+            if (!conditions.contains(null) && conditions.stream().allMatch(input::resourceSatisfies)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Partial evaluation of {@code allow} with input.resource unknown
+     */
+    public ResidualPolicy residual(Map<String, Object> document) {
+        PolicyInput input = new PolicyInput(document);
+        List<List<Condition>> queries = new ArrayList<>();
+        for (Rule rule : RULES) {
+            if (!rule.appliesTo(input)) {
+                continue;
+            }
+            List<Condition> conditions = rule.conditions().apply(input);
+            if (!conditions.contains(null)) {
+                queries.add(List.copyOf(conditions));
+            }
+        }
+        return new ResidualPolicy(queries);
+    }
+
+    /**
+     * A null entry marks a condition on an undefined value, which can never hold
+     */
+    private static List<Condition> conditions(Condition... conditions) {
+        return Arrays.asList(conditions);
+    }
+
+    /**
+     * One allow rule: applies to {@code action} (null = any action) when {@code guard}
+     * holds for the known input, and then requires every resource condition
+     */
+    private record Rule(String action,
+                        Predicate<PolicyInput> guard,
+                        Function<PolicyInput, List<Condition>> conditions) {
+
+        boolean appliesTo(PolicyInput input) {
+            return (action == null || action.equals(input.action())) && guard.test(input);
+        }
+    }
+
+    /**
+     * Typed view over the input document with the policy's helper rules
+     */
+    private static final class PolicyInput {
+
+        private final Map<String, Object> document;
+        private final Map<String, Object> user;
+        private final Map<String, Object> resource;
+        private final Map<String, Object> delegation;
+        private final Map<String, Object> consent;
+
+        PolicyInput(Map<String, Object> document) {
+            this.document = document;
+            this.user = child(document, "user");
+            this.resource = child(document, "resource");
+            this.delegation = child(document, "delegation");
+            this.consent = child(document, "consent");
+        }
+
+        String action() {
+            return document.get("action") instanceof String action ? action : null;
+        }
+
+        // has_role(role)
+        boolean hasRole(String role) {
+            return user != null && user.get("roles") instanceof Collection<?> roles && roles.contains(role);
+        }
+
+        // has_active_delegation, known part: active and the caller is the delegate
+        boolean hasActiveDelegation() {
+            return delegation != null
+                    && Boolean.TRUE.equals(delegation.get("active"))
+                    && defined(delegation, "delegate_id") && defined(user, "user_id")
+                    && Objects.equals(delegation.get("delegate_id"), user.get("user_id"));
+        }
+
+        // input.consent.valid == true; scope in input.consent.scopes
+        boolean hasConsentScope(String scope) {
+            return consent != null
+                    && Boolean.TRUE.equals(consent.get("valid"))
+                    && consent.get("scopes") instanceof Collection<?> scopes
+                    && scopes.contains(scope);
+        }
+
+        // is_same_tenant
+        Condition sameTenant() {
+            return condition("tenant_id", Operator.EQ, user, "tenant_id");
+        }
+
+        // is_resource_owner
+        Condition resourceOwner() {
+            return condition("user_id", Operator.EQ, user, "user_id");
+        }
+
+        // has_active_delegation, resource part: the delegator owns the resource
+        Condition ownedByDelegator() {
+            return condition("user_id", Operator.EQ, delegation, "delegator_id");
+        }
+
+        // is_manager_of_user, resource part: the caller is in the manager chain
+        Condition managedByUser() {
+            return condition("manager_chain", Operator.CONTAINS, user, "user_id");
+        }
+
+        Condition resourceFieldIsUser(String field) {
+            return condition(field, Operator.EQ, user, "user_id");
+        }
+
+        boolean resourceSatisfies(Condition condition) {
+            if (!defined(resource, condition.field())) {
+                return false;
+            }
+            Object actual = resource.get(condition.field());
+            return switch (condition.operator()) {
+                case EQ -> Objects.equals(actual, condition.value());
+                case CONTAINS -> actual instanceof Collection<?> values && values.contains(condition.value());
+            };
+        }
+
+        private static Condition condition(String field, Operator operator, Map<String, Object> source, String key) {
+            return defined(source, key) ? new Condition(field, operator, source.get(key)) : null;
+        }
+
+        private static boolean defined(Map<String, Object> map, String key) {
+            return map != null && map.containsKey(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> child(Map<String, Object> parent, String key) {
+            return parent.get(key) instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.corporate.travel.security;
+
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtDecoder backed by {@link LocalJwksKeySelector} instead of issuer discovery
+ *
+ * Enabled with {@code security.jwks.enabled=true}; Spring Boot then skips its own
+ * decoder, so neither startup nor key rotation needs the IdP to be reachable.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "security.jwks", name = "enabled", havingValue = "true")
+@Slf4j
+public class JwksDecoderConfig {
+
+    @Bean
+    public LocalJwksKeySelector localJwksKeySelector(JwksProperties properties,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.getJwksUri() == null || properties.getIssuer() == null) {
+            throw new IllegalStateException("security.jwks.jwks-uri and security.jwks.issuer are required");
+        }
+        LocalJwksKeySelector selector = new LocalJwksKeySelector(properties, meterRegistry.getIfAvailable());
+        selector.start();
+        return selector;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(LocalJwksKeySelector localJwksKeySelector, JwksProperties properties) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(localJwksKeySelector);
+        // Claims are validated by Spring Security's validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getIssuer()));
+        log.info("Using locally cached JWKS from {} for issuer {}", properties.getJwksUri(), properties.getIssuer());
+        return decoder;
+    }
+
+    /**
+     * Same decoder for the reactive stack
+     *
+     * Verification is a local signature check, so it runs on the calling event loop.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveJwtDecoder reactiveJwtDecoder(JwtDecoder jwtDecoder) {
+        return token -> Mono.fromCallable(() -> jwtDecoder.decode(token));
+    }
+}
@@ -0,0 +1,73 @@
+package com.corporate.travel.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local JWKS cache configuration bound from the {@code security.jwks.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "security.jwks")
+@Data
+public class JwksProperties {
+
+    /**
+     * Replace Spring Boot's issuer-discovery JwtDecoder with the locally cached one
+     */
+    private boolean enabled = false;
+
+    /**
+     * Expected {@code iss} claim
+     */
+    private String issuer;
+
+    /**
+     * Where the IdP publishes its signing keys
+     */
+    private String jwksUri;
+
+    /**
+     * Keys are persisted here after every successful fetch and loaded from here on startup;
+     * use an application-owned directory (not a shared temp directory). A file that is not
+     * owned by the process user, or that group or others can write, is ignored.
+     */
+    private Path cacheFile;
+
+    /**
+     * Optional JWKS shipped with the application (e.g. classpath:jwks.json), used when
+     * there is no cache file; with it, cold starts and tests need no network call
+     */
+    private Resource bundledJwks;
+
+    /**
+     * Background refresh period
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Keys older than this are reported as stale; they are still used while the IdP is down
+     */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /**
+     * Timeout for one JWKS fetch
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Minimum gap between refreshes triggered by tokens signed with an unknown key id
+     */
+    private Duration unknownKeyRefreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Accepted JWS algorithms
+     */
+    private List<String> algorithms = new ArrayList<>(List.of("RS256"));
+}
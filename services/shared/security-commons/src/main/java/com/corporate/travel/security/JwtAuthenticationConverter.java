@@ -36,6 +36,12 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
         return Collections.emptyList();
     }
 
+    /**
+     * Build a SecurityContext from the token's claims
+     *
+     * Controllers should take a {@link SecurityContext} parameter instead, which
+     * {@link SecurityContextArgumentResolver} resolves once and memoizes per token
+     */
     public static SecurityContext extractSecurityContext(Jwt jwt) {
         SecurityContext.SecurityContextBuilder builder = SecurityContext.builder()
                 .userId(jwt.getSubject())
@@ -63,7 +69,7 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
         Map<String, Object> attributes = new HashMap<>();
         attributes.put("employee_id", jwt.getClaimAsString("employee_id"));
         attributes.put("email", jwt.getClaimAsString("email"));
-        builder.attributes(attributes);
+        builder.attributes(Collections.unmodifiableMap(attributes));
 
         return builder.build();
     }
@@ -73,7 +79,7 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
         if (realmAccess != null && realmAccess.containsKey("roles")) {
             @SuppressWarnings("unchecked")
             List<String> roles = (List<String>) realmAccess.get("roles");
-            return roles;
+            return List.copyOf(roles);
         }
         return Collections.emptyList();
     }
@@ -0,0 +1,344 @@
+package com.corporate.travel.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyConverter;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Supplies JWT verification keys from a locally held JWKS snapshot
+ *
+ * Keys are parsed into {@link PublicKey} objects once per snapshot, so verifying a
+ * token is a map lookup plus the signature check. The snapshot is loaded from the
+ * persistent cache file (or a bundled JWKS) on startup, refreshed in the background,
+ * and written back to the cache file after every successful fetch. The cache file is
+ * only trusted when the process user owns it and nobody else can write it. When the IdP is
+ * slow or down, the last known keys keep being used.
+ *
+ * A token signed with an unknown key id triggers one bounded, rate-limited refresh,
+ * which is how key rotation is picked up between scheduled refreshes. On a
+ * non-blocking (event-loop) thread that refresh runs in the background instead.
+ */
+@Slf4j
+public class LocalJwksKeySelector implements JWSKeySelector<com.nimbusds.jose.proc.SecurityContext>, DisposableBean {
+
+    private final JwksProperties properties;
+    private final Set<JWSAlgorithm> algorithms;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong lastUnknownKeyRefresh = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    private volatile KeySnapshot snapshot = KeySnapshot.EMPTY;
+
+    public LocalJwksKeySelector(JwksProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.algorithms = properties.getAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toUnmodifiableSet());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getFetchTimeout())
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (meterRegistry != null) {
+            this.refreshSuccess = Counter.builder("security.jwks.refresh").tag("result", "success").register(meterRegistry);
+            this.refreshFailure = Counter.builder("security.jwks.refresh").tag("result", "failure").register(meterRegistry);
+            Gauge.builder("security.jwks.age", this, selector -> selector.snapshotAge().toSeconds())
+                    .description("Seconds since the signing keys were last fetched from the IdP")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("security.jwks.keys", this, selector -> selector.snapshot.all().size())
+                    .description("Signing keys currently trusted")
+                    .register(meterRegistry);
+        } else {
+            this.refreshSuccess = null;
+            this.refreshFailure = null;
+        }
+    }
+
+    /**
+     * Load the initial keys and schedule background refreshes
+     */
+    public void start() {
+        if (!loadFromCacheFile() && !loadBundled()) {
+            // Nothing local: this is the only startup path that waits on the IdP
+            refresh();
+        }
+        // Refresh soon if the local keys are missing or already due (bundled keys count as due)
+        long period = properties.getRefreshInterval().toMillis();
+        long firstDelay = snapshot.isEmpty()
+                ? Math.min(period, 5_000)
+                : Math.max(0, period - snapshotAge().toMillis());
+        scheduler.scheduleWithFixedDelay(this::refresh, firstDelay, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public List<? extends Key> selectJWSKeys(JWSHeader header, com.nimbusds.jose.proc.SecurityContext context)
+            throws KeySourceException {
+        if (!algorithms.contains(header.getAlgorithm())) {
+            return List.of();
+        }
+        List<Key> keys = candidates(snapshot, header);
+        if (keys.isEmpty() && header.getKeyID() != null) {
+            if (Schedulers.isInNonBlockingThread()) {
+                // Never fetch on an event loop: reject this token, retries see the new keys
+                scheduler.execute(this::refreshForUnknownKey);
+            } else if (refreshForUnknownKey()) {
+                keys = candidates(snapshot, header);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Fetch the JWKS from the IdP; on failure the current keys stay in place
+     *
+     * Guarded by a ReentrantLock rather than synchronized: it may run on a request
+     * thread, and a virtual thread blocked in I/O inside synchronized pins its carrier.
+     */
+    boolean refresh() {
+        refreshLock.lock();
+        try {
+            return fetch();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean fetch() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getJwksUri()))
+                    .timeout(properties.getFetchTimeout())
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            JWKSet jwkSet = JWKSet.parse(response.body());
+            install(jwkSet, Instant.now(), "IdP");
+            persist(jwkSet);
+            increment(refreshSuccess);
+            return true;
+        } catch (IOException | ParseException e) {
+            increment(refreshFailure);
+            Duration age = snapshotAge();
+            if (age.compareTo(properties.getMaxAge()) > 0) {
+                log.error("JWKS refresh from {} failed and the cached keys are stale (age {}): {}",
+                        properties.getJwksUri(), age, e.getMessage());
+            } else {
+                log.warn("JWKS refresh from {} failed, keeping {} cached keys (age {}): {}",
+                        properties.getJwksUri(), snapshot.all().size(), age, e.getMessage());
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean refreshForUnknownKey() {
+        long now = System.currentTimeMillis();
+        long last = lastUnknownKeyRefresh.get();
+        if (now - last < properties.getUnknownKeyRefreshInterval().toMillis()
+                || !lastUnknownKeyRefresh.compareAndSet(last, now)) {
+            return false;
+        }
+        log.info("Token signed with an unknown key id, refreshing JWKS");
+        return refresh();
+    }
+
+    private boolean loadFromCacheFile() {
+        Path cacheFile = properties.getCacheFile();
+        if (cacheFile == null || !Files.isReadable(cacheFile)) {
+            return false;
+        }
+        try {
+            String problem = untrustedReason(cacheFile);
+            if (problem != null) {
+                log.error("Ignoring JWKS cache file {}: {}", cacheFile, problem);
+                return false;
+            }
+            JWKSet jwkSet = JWKSet.parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+            install(jwkSet, Files.getLastModifiedTime(cacheFile).toInstant(), "cache file " + cacheFile);
+            return !snapshot.isEmpty();
+        } catch (IOException | ParseException e) {
+            log.warn("Ignoring unreadable JWKS cache file {}: {}", cacheFile, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Why a cache file must not be trusted, or null when it may be
+     *
+     * Its keys decide which tokens are accepted, so it has to be a regular file owned
+     * by the process user that nobody else can write. File systems without POSIX
+     * permissions only get the owner check.
+     */
+    static String untrustedReason(Path file) throws IOException {
+        if (Files.isSymbolicLink(file) || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+            return "not a regular file";
+        }
+        UserPrincipal owner = Files.getOwner(file, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal processUser = file.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(processUser)) {
+            return "owned by " + owner.getName() + ", not " + processUser.getName();
+        }
+        if (Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(file, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                return "writable by group or others (" + PosixFilePermissions.toString(permissions) + ")";
+            }
+        }
+        return null;
+    }
+
+    private boolean loadBundled() {
+        if (properties.getBundledJwks() == null || !properties.getBundledJwks().exists()) {
+            return false;
+        }
+        try (InputStream in = properties.getBundledJwks().getInputStream()) {
+            JWKSet jwkSet = JWKSet.load(in);
+            install(jwkSet, Instant.EPOCH, "bundled " + properties.getBundledJwks().getDescription());
+            return !snapshot.isEmpty();
+        } catch (IOException | ParseException e) {
+            log.warn("Ignoring unreadable bundled JWKS {}: {}", properties.getBundledJwks(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void persist(JWKSet jwkSet) {
+        Path cacheFile = properties.getCacheFile();
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, cacheFile.getFileName().toString(), ".tmp");
+            Files.writeString(temp, jwkSet.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write JWKS cache file {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private void install(JWKSet jwkSet, Instant fetchedAt, String source) {
+        Map<String, List<PublicKey>> keysById = new HashMap<>();
+        List<PublicKey> all = new ArrayList<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyUse() != null && !KeyUse.SIGNATURE.equals(jwk.getKeyUse())) {
+                continue;
+            }
+            if (jwk.getAlgorithm() != null && !algorithms.contains(JWSAlgorithm.parse(jwk.getAlgorithm().getName()))) {
+                continue;
+            }
+            for (Key key : KeyConverter.toJavaKeys(List.of(jwk))) {
+                if (key instanceof PublicKey publicKey) {
+                    all.add(publicKey);
+                    if (jwk.getKeyID() != null) {
+                        keysById.computeIfAbsent(jwk.getKeyID(), id -> new ArrayList<>()).add(publicKey);
+                    }
+                }
+            }
+        }
+        if (all.isEmpty()) {
+            log.warn("JWKS from {} has no usable signing keys; keeping the previous keys", source);
+            return;
+        }
+        snapshot = new KeySnapshot(Map.copyOf(keysById), List.copyOf(all), fetchedAt);
+        log.info("Loaded {} JWKS signing keys {} from {}", all.size(), keysById.keySet(), source);
+    }
+
+    private List<Key> candidates(KeySnapshot current, JWSHeader header) {
+        List<PublicKey> keys = header.getKeyID() != null
+                ? current.keysById().getOrDefault(header.getKeyID(), List.of())
+                : current.all();
+        String family = JWSAlgorithm.Family.EC.contains(header.getAlgorithm()) ? "EC" : "RSA";
+        List<Key> matching = new ArrayList<>(keys.size());
+        for (PublicKey key : keys) {
+            if ("EC".equals(family) ? key instanceof ECPublicKey : key instanceof RSAPublicKey) {
+                matching.add(key);
+            }
+        }
+        return matching;
+    }
+
+    private Duration snapshotAge() {
+        return snapshot.isEmpty() ? Duration.ZERO : Duration.between(snapshot.fetchedAt(), Instant.now());
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record KeySnapshot(Map<String, List<PublicKey>> keysById, List<PublicKey> all, Instant fetchedAt) {
+
+        static final KeySnapshot EMPTY = new KeySnapshot(Map.of(), List.of(), Instant.EPOCH);
+
+        boolean isEmpty() {
+            return all.isEmpty();
+        }
+    }
+}
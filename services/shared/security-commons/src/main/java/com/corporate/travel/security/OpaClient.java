@@ -1,64 +1,206 @@
 package com.corporate.travel.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Client for communicating with Open Policy Agent (OPA)
+ *
+ * Builds the OPA input document and delegates the decision to the configured
+ * {@link PolicyEvaluator} (the OPA server or the in-process engine).
+ * The {@code *Async} methods never block, so they are safe on an event loop
+ * and let callers overlap the policy check with other I/O; {@link #authorize},
+ * {@link #authorizeBatch} and {@link #partialEvaluate} are blocking wrappers.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class OpaClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final PolicyEvaluator policyEvaluator;
     private final ObjectMapper objectMapper;
-
-    @Value("${opa.url:http://opa:8181}")
-    private String opaUrl;
+    private final ObjectProvider<OpaDecisionCache> decisionCache;
 
     /**
      * Evaluate authorization policy
+     *
+     * When the decision cache is enabled, a cached allow/deny for the same
+     * normalized input is returned without calling OPA
      */
     public boolean authorize(SecurityContext context, String action, Map<String, Object> resource) {
-        try {
-            Map<String, Object> input = buildOpaInput(context, action, resource);
-            
-            Map<String, Object> request = Map.of("input", input);
-
-            WebClient webClient = webClientBuilder.baseUrl(opaUrl).build();
-            
-            Map<String, Object> response = webClient.post()
-                    .uri("/v1/data/corporate/travel/authorization/allow")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (response != null && response.containsKey("result")) {
-                Boolean allowed = (Boolean) response.get("result");
-                log.debug("OPA authorization decision: {} for action: {}", allowed, action);
-                return Boolean.TRUE.equals(allowed);
-            }
-
-            log.warn("OPA returned unexpected response: {}", response);
-            return false;
-
-        } catch (Exception e) {
-            log.error("Error calling OPA for authorization", e);
-            return false;  // Fail closed
+        return Boolean.TRUE.equals(authorizeAsync(context, action, resource).block());
+    }
+
+    /**
+     * Evaluate authorization policy without blocking the caller
+     *
+     * The returned Mono always completes with a decision: errors, timeouts and
+     * unexpected responses resolve to false (fail closed)
+     */
+    public Mono<Boolean> authorizeAsync(SecurityContext context, String action, Map<String, Object> resource) {
+        return Mono.<Boolean>defer(() -> {
+                    Map<String, Object> input = buildOpaInput(context, action, resource);
+
+                    OpaDecisionCache cache = decisionCache.getIfAvailable();
+                    if (cache == null) {
+                        return evaluate(input, action);
+                    }
+
+                    OpaDecisionCache.DecisionKey key;
+                    try {
+                        key = cache.keyFor(context, action, input);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(e);
+                    }
+                    Boolean cached = cache.get(key);
+                    if (cached != null) {
+                        log.debug("OPA authorization decision (cached): {} for action: {}", cached, action);
+                        return Mono.just(cached);
+                    }
+                    return evaluate(input, action)
+                            .doOnNext(allowed -> cache.put(key, allowed));
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.error("Error calling OPA for authorization", e);
+                    return Mono.just(false);  // Fail closed
+                });
+    }
+
+    /**
+     * Evaluate one action against many resources in a single OPA round trip
+     *
+     * Decisions already in the cache are not sent to OPA. On any error every
+     * resource is denied (fail closed).
+     *
+     * @return one decision per resource, in the same order
+     */
+    public List<Boolean> authorizeBatch(SecurityContext context, String action, List<Map<String, Object>> resources) {
+        return authorizeBatchAsync(context, action, resources).block();
+    }
+
+    /**
+     * Non-blocking form of {@link #authorizeBatch}
+     *
+     * The returned Mono always completes with one decision per resource;
+     * errors resolve to all false (fail closed)
+     */
+    public Mono<List<Boolean>> authorizeBatchAsync(SecurityContext context, String action,
+                                                   List<Map<String, Object>> resources) {
+        if (resources.isEmpty()) {
+            return Mono.just(List.of());
         }
+        List<Boolean> denyAll = Collections.nCopies(resources.size(), false);
+        return Mono.<List<Boolean>>defer(() -> {
+                    Boolean[] decisions = new Boolean[resources.size()];
+                    OpaDecisionCache.DecisionKey[] keys = new OpaDecisionCache.DecisionKey[resources.size()];
+                    List<Integer> pending = new ArrayList<>();
+
+                    OpaDecisionCache cache = decisionCache.getIfAvailable();
+                    for (int i = 0; i < resources.size(); i++) {
+                        if (cache != null) {
+                            try {
+                                keys[i] = cache.keyFor(context, action, buildOpaInput(context, action, resources.get(i)));
+                            } catch (JsonProcessingException e) {
+                                return Mono.error(e);
+                            }
+                            decisions[i] = cache.get(keys[i]);
+                        }
+                        if (decisions[i] == null) {
+                            pending.add(i);
+                        }
+                    }
+
+                    if (pending.isEmpty()) {
+                        log.debug("OPA batch decision for action: {} over {} resources (all cached)",
+                                action, resources.size());
+                        return Mono.just(Arrays.asList(decisions));
+                    }
+
+                    List<Map<String, Object>> pendingResources = pending.stream().map(resources::get).toList();
+                    return policyEvaluator.evaluateBatch(buildBatchInput(context, action, pendingResources))
+                            .map(results -> {
+                                if (results.size() != pending.size()) {
+                                    log.warn("OPA returned {} batch decisions for {} resources",
+                                            results.size(), pending.size());
+                                    return denyAll;
+                                }
+                                for (int j = 0; j < pending.size(); j++) {
+                                    int i = pending.get(j);
+                                    decisions[i] = results.get(j);
+                                    if (cache != null) {
+                                        cache.put(keys[i], decisions[i]);
+                                    }
+                                }
+                                log.debug("OPA batch decision for action: {} over {} resources ({} from OPA)",
+                                        action, resources.size(), pending.size());
+                                return Arrays.asList(decisions);
+                            });
+                })
+                .defaultIfEmpty(denyAll)
+                .onErrorResume(e -> {
+                    log.error("Error calling OPA for batch authorization", e);
+                    return Mono.just(denyAll);  // Fail closed
+                });
+    }
+
+    /**
+     * Ask the policy which resources the caller may perform an action on
+     *
+     * The resource is left unknown; the result is the set of conditions a
+     * resource must meet, for translation into a query filter. Any error
+     * yields {@link ResidualPolicy#denyAll()} (fail closed).
+     */
+    public ResidualPolicy partialEvaluate(SecurityContext context, String action) {
+        return partialEvaluateAsync(context, action).block();
+    }
+
+    /**
+     * Non-blocking form of {@link #partialEvaluate}
+     */
+    public Mono<ResidualPolicy> partialEvaluateAsync(SecurityContext context, String action) {
+        return Mono.defer(() -> {
+                    Map<String, Object> input = buildOpaInput(context, action, null);
+                    input.remove("resource");
+                    return policyEvaluator.partialEvaluate(input);
+                })
+                .doOnNext(residual -> log.debug("OPA residual policy for action: {}: {}", action, residual))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("No partial evaluation result for action: {}", action);
+                    return ResidualPolicy.denyAll();
+                }))
+                .onErrorResume(e -> {
+                    log.error("Error calling OPA for partial evaluation", e);
+                    return Mono.just(ResidualPolicy.denyAll());  // Fail closed
+                });
+    }
+
+    private Mono<Boolean> evaluate(Map<String, Object> input, String action) {
+        return policyEvaluator.evaluate(input)
+                .doOnNext(allowed -> log.debug("OPA authorization decision: {} for action: {}", allowed, action));
+    }
+
+    private Map<String, Object> buildBatchInput(SecurityContext context, String action, List<Map<String, Object>> resources) {
+        Map<String, Object> input = buildOpaInput(context, action, null);
+        input.remove("resource");
+        input.put("resources", resources);
+        return input;
     }
 
-    private Map<String, Object> buildOpaInput(SecurityContext context, String action, Map<String, Object> resource) {
+    // visible for benchmarks
+    Map<String, Object> buildOpaInput(SecurityContext context, String action, Map<String, Object> resource) {
         Map<String, Object> input = new HashMap<>();
 
         // User context
@@ -98,7 +240,8 @@ public class OpaClient {
         return input;
     }
 
-    private List<String> extractScopesFromPurpose(String purpose) {
+    // visible for benchmarks
+    static List<String> extractScopesFromPurpose(String purpose) {
         // Map purpose to scopes - this is simplified
         if (purpose == null) {
             return List.of();
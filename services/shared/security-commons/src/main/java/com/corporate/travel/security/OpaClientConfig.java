@@ -0,0 +1,47 @@
+package com.corporate.travel.security;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Long-lived WebClient for OPA calls
+ *
+ * One pooled, keep-alive client is shared by every authorization check instead
+ * of building a new client per call. Timeouts are bounded so a slow OPA fails
+ * closed rather than holding request threads.
+ */
+@Configuration
+public class OpaClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider opaConnectionProvider(OpaProperties opaProperties) {
+        OpaProperties.Client client = opaProperties.getClient();
+        return ConnectionProvider.builder("opa")
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .maxIdleTime(client.getMaxIdleTime())
+                .build();
+    }
+
+    @Bean
+    public WebClient opaWebClient(WebClient.Builder webClientBuilder,
+                                  ConnectionProvider opaConnectionProvider,
+                                  OpaProperties opaProperties) {
+        OpaProperties.Client client = opaProperties.getClient();
+        HttpClient httpClient = HttpClient.create(opaConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getReadTimeout())
+                .keepAlive(true);
+
+        return webClientBuilder.clone()
+                .baseUrl(opaProperties.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.corporate.travel.security;
+
+import com.corporate.travel.security.ResidualPolicy.Condition;
+import com.corporate.travel.security.ResidualPolicy.Operator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Translates an OPA Compile API response into a {@link ResidualPolicy}
+ *
+ * Supported residual expressions, with the resource on either side:
+ * - eq/equal(input.resource.field, value)
+ * - internal.member_2(value, input.resource.field)
+ * - eq(input.resource.field[_], value), the older form of "value in field"
+ *
+ * Any other expression (negation, support rules, nested fields, comparisons
+ * between two unknowns) discards the whole query it appears in (fail closed).
+ */
+@Slf4j
+final class OpaCompileResultParser {
+
+    private static final Set<String> EQUALITY_OPERATORS = Set.of("eq", "equal");
+    private static final List<String> RESOURCE_PREFIX = List.of("input", "resource");
+
+    private OpaCompileResultParser() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static ResidualPolicy parse(Map<String, Object> response) {
+        Map<String, Object> result = (Map<String, Object>) response.get("result");
+        if (result == null || !(result.get("queries") instanceof List<?> queries)) {
+            // No queries: the policy can never be satisfied for this input
+            return ResidualPolicy.denyAll();
+        }
+        if (result.containsKey("support")) {
+            log.warn("OPA compile result contains support rules; queries referencing them are discarded");
+        }
+
+        List<List<Condition>> translated = new ArrayList<>();
+        for (Object query : queries) {
+            List<Condition> conditions = translateQuery((List<Object>) query);
+            if (conditions != null) {
+                translated.add(conditions);
+            }
+        }
+        return new ResidualPolicy(translated);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Condition> translateQuery(List<Object> expressions) {
+        List<Condition> conditions = new ArrayList<>();
+        for (Object expression : expressions) {
+            Condition condition = translateExpression((Map<String, Object>) expression);
+            if (condition == null) {
+                log.debug("Discarding residual query with unsupported expression: {}", expression);
+                return null;
+            }
+            conditions.add(condition);
+        }
+        return conditions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Condition translateExpression(Map<String, Object> expression) {
+        if (Boolean.TRUE.equals(expression.get("negated"))
+                || !(expression.get("terms") instanceof List<?> terms)
+                || terms.size() != 3) {
+            return null;
+        }
+        String operator = operatorName((Map<String, Object>) terms.get(0));
+        Map<String, Object> left = (Map<String, Object>) terms.get(1);
+        Map<String, Object> right = (Map<String, Object>) terms.get(2);
+
+        if (EQUALITY_OPERATORS.contains(operator)) {
+            Condition condition = equality(left, right);
+            return condition != null ? condition : equality(right, left);
+        }
+        if ("internal.member_2".equals(operator)) {
+            List<String> field = resourceField(right);
+            if (field != null && field.size() == 1 && isScalar(left)) {
+                return new Condition(field.get(0), Operator.CONTAINS, left.get("value"));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * resource.field == value, or resource.field[_] == value
+     */
+    @SuppressWarnings("unchecked")
+    private static Condition equality(Map<String, Object> resourceTerm, Map<String, Object> valueTerm) {
+        if (!isScalar(valueTerm) || !"ref".equals(resourceTerm.get("type"))) {
+            return null;
+        }
+        List<Map<String, Object>> path = (List<Map<String, Object>>) resourceTerm.get("value");
+        Map<String, Object> last = path.get(path.size() - 1);
+        if ("var".equals(last.get("type"))) {
+            List<String> field = resourceField(Map.of("type", "ref", "value", path.subList(0, path.size() - 1)));
+            return field != null && field.size() == 1
+                    ? new Condition(field.get(0), Operator.CONTAINS, valueTerm.get("value"))
+                    : null;
+        }
+        List<String> field = resourceField(resourceTerm);
+        return field != null && field.size() == 1
+                ? new Condition(field.get(0), Operator.EQ, valueTerm.get("value"))
+                : null;
+    }
+
+    /**
+     * Path below input.resource for a ref term, or null if the term is not such a ref
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> resourceField(Map<String, Object> term) {
+        if (!"ref".equals(term.get("type"))) {
+            return null;
+        }
+        List<String> path = new ArrayList<>();
+        for (Map<String, Object> element : (List<Map<String, Object>>) term.get("value")) {
+            // Only the head of a ref is a variable; anything else is iteration or a computed key
+            String expectedType = path.isEmpty() ? "var" : "string";
+            if (!expectedType.equals(element.get("type"))) {
+                return null;
+            }
+            path.add(String.valueOf(element.get("value")));
+        }
+        if (path.size() <= RESOURCE_PREFIX.size() || !path.subList(0, RESOURCE_PREFIX.size()).equals(RESOURCE_PREFIX)) {
+            return null;
+        }
+        return path.subList(RESOURCE_PREFIX.size(), path.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String operatorName(Map<String, Object> term) {
+        if (!"ref".equals(term.get("type"))) {
+            return null;
+        }
+        List<String> parts = new ArrayList<>();
+        for (Map<String, Object> element : (List<Map<String, Object>>) term.get("value")) {
+            parts.add(String.valueOf(element.get("value")));
+        }
+        return String.join(".", parts);
+    }
+
+    private static boolean isScalar(Map<String, Object> term) {
+        Object type = term.get("type");
+        return "string".equals(type) || "number".equals(type) || "boolean".equals(type) || "null".equals(type);
+    }
+}
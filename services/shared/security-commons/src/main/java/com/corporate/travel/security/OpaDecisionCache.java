@@ -0,0 +1,175 @@
+package com.corporate.travel.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded in-process cache of OPA authorization decisions
+ *
+ * Entries are keyed on the normalized OPA input (user, roles, action, resource,
+ * delegation, consent), so two requests share a decision only if OPA would have
+ * seen exactly the same document. Only definitive allow/deny answers are cached;
+ * errors are never cached so the fail-closed path is re-evaluated every time.
+ *
+ * Enabled with {@code opa.cache.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "opa.cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class OpaDecisionCache {
+
+    static final String CACHE_NAME = "opa.decisions";
+
+    private final OpaProperties.Cache properties;
+    private final ObjectWriter keyWriter;
+    private final Cache<DecisionKey, Boolean> decisions;
+    private final Counter invalidations;
+
+    public OpaDecisionCache(OpaProperties opaProperties,
+                            ObjectMapper objectMapper,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = opaProperties.getCache();
+        this.keyWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.decisions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ActionTtlExpiry())
+                .recordStats()
+                .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, decisions, CACHE_NAME);
+            this.invalidations = Counter.builder(CACHE_NAME + ".invalidations")
+                    .description("Bulk invalidations of cached OPA decisions")
+                    .register(registry);
+        } else {
+            this.invalidations = null;
+        }
+        log.info("OPA decision cache enabled: maximumSize={}, defaultTtl={}, actionTtl={}",
+                properties.getMaximumSize(), properties.getDefaultTtl(), properties.getActionTtl());
+    }
+
+    /**
+     * Build the cache key for an OPA input document
+     */
+    public DecisionKey keyFor(SecurityContext context, String action, Map<String, Object> input)
+            throws JsonProcessingException {
+        return new DecisionKey(
+                context.getTenantId(),
+                context.getUserId(),
+                context.isDelegated() ? context.getSubjectId() : null,
+                action,
+                keyWriter.writeValueAsString(normalize(input)));
+    }
+
+    public Boolean get(DecisionKey key) {
+        return decisions.getIfPresent(key);
+    }
+
+    public void put(DecisionKey key, boolean allowed) {
+        if (ttlFor(key.action()).isZero()) {
+            return;
+        }
+        decisions.put(key, allowed);
+    }
+
+    /**
+     * Drop every cached decision for a tenant, e.g. after a tenant-wide role change
+     */
+    public void invalidateTenant(String tenantId) {
+        decisions.asMap().keySet().removeIf(key -> Objects.equals(key.tenantId(), tenantId));
+        recordInvalidation();
+        log.info("Invalidated cached OPA decisions for tenant {}", tenantId);
+    }
+
+    /**
+     * Drop every cached decision made for or on behalf of a user,
+     * e.g. after their roles or delegations change
+     */
+    public void invalidateUser(String tenantId, String userId) {
+        decisions.asMap().keySet().removeIf(key -> Objects.equals(key.tenantId(), tenantId)
+                && (Objects.equals(key.userId(), userId) || Objects.equals(key.delegatorId(), userId)));
+        recordInvalidation();
+        log.info("Invalidated cached OPA decisions for user {} in tenant {}", userId, tenantId);
+    }
+
+    public void invalidateAll() {
+        decisions.invalidateAll();
+        recordInvalidation();
+    }
+
+    private void recordInvalidation() {
+        if (invalidations != null) {
+            invalidations.increment();
+        }
+    }
+
+    private Duration ttlFor(String action) {
+        return properties.getActionTtl().getOrDefault(action, properties.getDefaultTtl());
+    }
+
+    /**
+     * Roles arrive in token order; sort them so equivalent inputs share a key
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> normalize(Map<String, Object> input) {
+        Object user = input.get("user");
+        if (!(user instanceof Map<?, ?> userMap) || !(userMap.get("roles") instanceof List<?> roles)) {
+            return input;
+        }
+        List<String> sortedRoles = new ArrayList<>((List<String>) roles);
+        sortedRoles.sort(null);
+
+        Map<String, Object> normalizedUser = new HashMap<>((Map<String, Object>) userMap);
+        normalizedUser.put("roles", sortedRoles);
+
+        Map<String, Object> normalized = new HashMap<>(input);
+        normalized.put("user", normalizedUser);
+        return normalized;
+    }
+
+    /**
+     * Cache key; tenant/user/delegator are kept alongside the serialized input
+     * so entries can be invalidated without parsing it
+     */
+    public record DecisionKey(String tenantId, String userId, String delegatorId,
+                              String action, String input) {
+    }
+
+    private class ActionTtlExpiry implements Expiry<DecisionKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(DecisionKey key, Boolean value, long currentTime) {
+            return ttlFor(key.action()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(DecisionKey key, Boolean value, long currentTime, long currentDuration) {
+            return ttlFor(key.action()).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(DecisionKey key, Boolean value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.corporate.travel.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OPA client configuration bound from the {@code opa.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "opa")
+@Data
+public class OpaProperties {
+
+    /**
+     * Base URL of the OPA server
+     */
+    private String url = "http://opa:8181";
+
+    /**
+     * Where policy decisions are made: the OPA server (http) or in-process
+     */
+    private Evaluator evaluator = Evaluator.HTTP;
+
+    /**
+     * HTTP transport settings
+     */
+    private Client client = new Client();
+
+    /**
+     * Decision cache settings
+     */
+    private Cache cache = new Cache();
+
+    public enum Evaluator {
+        HTTP,
+        IN_PROCESS
+    }
+
+    @Data
+    public static class Client {
+
+        /**
+         * TCP connect timeout to OPA
+         */
+        private Duration connectTimeout = Duration.ofMillis(500);
+
+        /**
+         * Time to wait for OPA's response once the request is written
+         */
+        private Duration readTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Upper bound on pooled connections to OPA
+         */
+        private int maxConnections = 200;
+
+        /**
+         * Time a request may wait for a pooled connection before failing closed
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Requests allowed to queue for a pooled connection; beyond this they fail closed.
+         * Raise together with max-connections when running on virtual threads.
+         */
+        private int pendingAcquireMaxCount = 400;
+
+        /**
+         * Idle pooled connections are closed after this long
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Whether authorization decisions are cached in-process
+         */
+        private boolean enabled = false;
+
+        /**
+         * Upper bound on the number of cached decisions
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * TTL for actions without an explicit entry in {@link #actionTtl}
+         */
+        private Duration defaultTtl = Duration.ofSeconds(30);
+
+        /**
+         * Per-action TTL overrides, e.g. view_booking: 60s.
+         * A zero duration disables caching for that action.
+         */
+        private Map<String, Duration> actionTtl = new HashMap<>();
+    }
+}
@@ -0,0 +1,36 @@
+package com.corporate.travel.security;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the corporate.travel.authorization policy against an OPA input document
+ *
+ * Implementations must return the same decisions for the same input; see
+ * PolicyConformanceTest. Selected with {@code opa.evaluator}.
+ */
+public interface PolicyEvaluator {
+
+    /**
+     * Evaluate the allow rule
+     *
+     * @return the decision, or empty if no decision could be made
+     */
+    Mono<Boolean> evaluate(Map<String, Object> input);
+
+    /**
+     * Evaluate the batch_allow rule for an input carrying {@code resources} instead of {@code resource}
+     *
+     * @return positional decisions, or empty if no decision could be made
+     */
+    Mono<List<Boolean>> evaluateBatch(Map<String, Object> input);
+
+    /**
+     * Partially evaluate the allow rule for an input without {@code resource}
+     *
+     * @return the conditions a resource must meet to be allowed, or empty if no answer could be obtained
+     */
+    Mono<ResidualPolicy> partialEvaluate(Map<String, Object> input);
+}
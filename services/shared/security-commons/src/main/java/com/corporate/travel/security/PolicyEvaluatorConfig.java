@@ -0,0 +1,26 @@
+package com.corporate.travel.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Selects the policy evaluator used by {@link OpaClient} from {@code opa.evaluator}
+ */
+@Configuration
+@Slf4j
+public class PolicyEvaluatorConfig {
+
+    @Bean
+    @Primary
+    public PolicyEvaluator policyEvaluator(OpaProperties opaProperties,
+                                           HttpOpaPolicyEvaluator httpOpaPolicyEvaluator,
+                                           InProcessPolicyEvaluator inProcessPolicyEvaluator) {
+        log.info("Using {} policy evaluator", opaProperties.getEvaluator());
+        return switch (opaProperties.getEvaluator()) {
+            case HTTP -> httpOpaPolicyEvaluator;
+            case IN_PROCESS -> inProcessPolicyEvaluator;
+        };
+    }
+}
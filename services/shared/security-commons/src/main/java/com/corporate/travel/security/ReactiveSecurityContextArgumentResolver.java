@@ -0,0 +1,58 @@
+package com.corporate.travel.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Injects the caller's {@link SecurityContext} into WebFlux controller parameters
+ *
+ * Reactive counterpart of {@link SecurityContextArgumentResolver}: the context is
+ * kept as an exchange attribute and memoized per token by {@link SecurityContextResolver}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String EXCHANGE_ATTRIBUTE = ReactiveSecurityContextArgumentResolver.class.getName() + ".context";
+
+    private final SecurityContextResolver securityContextResolver;
+
+    public ReactiveSecurityContextArgumentResolver(SecurityContextResolver securityContextResolver) {
+        this.securityContextResolver = securityContextResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return SecurityContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter,
+                                        BindingContext bindingContext,
+                                        ServerWebExchange exchange) {
+        SecurityContext cached = exchange.getAttribute(EXCHANGE_ATTRIBUTE);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(org.springframework.security.core.context.SecurityContext::getAuthentication)
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .cast(JwtAuthenticationToken.class)
+                .switchIfEmpty(Mono.error(() ->
+                        new AuthenticationCredentialsNotFoundException("No JWT authentication for this request")))
+                .map(jwtAuthentication -> {
+                    SecurityContext context = securityContextResolver.resolve(jwtAuthentication.getToken());
+                    exchange.getAttributes().put(EXCHANGE_ATTRIBUTE, context);
+                    return context;
+                });
+    }
+}
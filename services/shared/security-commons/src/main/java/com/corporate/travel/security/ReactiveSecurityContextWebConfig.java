@@ -0,0 +1,25 @@
+package com.corporate.travel.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Registers {@link ReactiveSecurityContextArgumentResolver} with Spring WebFlux
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityContextWebConfig implements WebFluxConfigurer {
+
+    private final ReactiveSecurityContextArgumentResolver securityContextArgumentResolver;
+
+    public ReactiveSecurityContextWebConfig(ReactiveSecurityContextArgumentResolver securityContextArgumentResolver) {
+        this.securityContextArgumentResolver = securityContextArgumentResolver;
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(securityContextArgumentResolver);
+    }
+}
@@ -0,0 +1,40 @@
+package com.corporate.travel.security;
+
+import java.util.List;
+
+/**
+ * Result of partially evaluating the policy with {@code input.resource} unknown
+ *
+ * The policy allows a resource if it satisfies every condition of at least one
+ * query (disjunctive normal form). No queries means nothing is allowed; an empty
+ * query means everything is allowed. Conditions OPA returned that could not be
+ * represented are never silently dropped - their whole query is discarded, so
+ * translation errors only ever hide rows.
+ */
+public record ResidualPolicy(List<List<Condition>> queries) {
+
+    public static ResidualPolicy denyAll() {
+        return new ResidualPolicy(List.of());
+    }
+
+    public boolean isDenyAll() {
+        return queries.isEmpty();
+    }
+
+    /**
+     * A condition on one field of the unknown resource
+     *
+     * @param field resource field, e.g. "tenant_id"
+     * @param operator how the field relates to the value
+     * @param value known value from the rest of the input
+     */
+    public record Condition(String field, Operator operator, Object value) {
+    }
+
+    public enum Operator {
+        /** input.resource[field] == value */
+        EQ,
+        /** value in input.resource[field] */
+        CONTAINS
+    }
+}
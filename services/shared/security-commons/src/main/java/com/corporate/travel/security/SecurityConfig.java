@@ -1,5 +1,6 @@
 package com.corporate.travel.security;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,8 +12,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Base security configuration for all services
+ *
+ * Servlet stack only; see {@link ReactiveSecurityConfig} for WebFlux deployments.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -1,15 +1,17 @@
 package com.corporate.travel.security;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 
 import java.util.List;
 import java.util.Map;
 
 /**
  * Security context extracted from JWT token
+ *
+ * Immutable: one instance is shared by every request made with the same token
  */
-@Data
+@Value
 @Builder
 public class SecurityContext {
     private String userId;
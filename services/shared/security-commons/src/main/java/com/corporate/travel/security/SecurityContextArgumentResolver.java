@@ -0,0 +1,57 @@
+package com.corporate.travel.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Injects the caller's {@link SecurityContext} into controller parameters
+ *
+ * The context is resolved once per request (kept as a request attribute) and,
+ * across requests, memoized per token by {@link SecurityContextResolver}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SecurityContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String REQUEST_ATTRIBUTE = SecurityContextArgumentResolver.class.getName() + ".context";
+
+    private final SecurityContextResolver securityContextResolver;
+
+    public SecurityContextArgumentResolver(SecurityContextResolver securityContextResolver) {
+        this.securityContextResolver = securityContextResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return SecurityContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public SecurityContext resolveArgument(MethodParameter parameter,
+                                           ModelAndViewContainer mavContainer,
+                                           NativeWebRequest webRequest,
+                                           WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof SecurityContext context) {
+            return context;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof JwtAuthenticationToken jwtAuthentication)) {
+            throw new AuthenticationCredentialsNotFoundException("No JWT authentication for this request");
+        }
+        SecurityContext context = securityContextResolver.resolve(jwtAuthentication.getToken());
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+}
@@ -0,0 +1,31 @@
+package com.corporate.travel.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Memoization of SecurityContexts per access token, bound from {@code security.context-cache.*}
+ */
+@Component
+@ConfigurationProperties(prefix = "security.context-cache")
+@Data
+public class SecurityContextCacheProperties {
+
+    /**
+     * Reuse the SecurityContext built for a token on later requests with the same token
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the number of memoized contexts
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Longest an entry is kept, even if the token expires later
+     */
+    private Duration maxTtl = Duration.ofMinutes(15);
+}
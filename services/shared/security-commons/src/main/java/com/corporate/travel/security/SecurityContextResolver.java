@@ -0,0 +1,110 @@
+package com.corporate.travel.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Builds the SecurityContext for a validated JWT, memoized per token
+ *
+ * Entries are keyed by issuer + {@code jti}, or by a SHA-256 of the raw token
+ * when it has no {@code jti}, and expire when the token does (capped at
+ * {@code security.context-cache.max-ttl}). The memoized contexts are immutable,
+ * so they are safe to share between requests.
+ */
+@Component
+@Slf4j
+public class SecurityContextResolver {
+
+    static final String CACHE_NAME = "security.contexts";
+
+    private final SecurityContextCacheProperties properties;
+    private final Cache<String, Entry> contexts;
+
+    public SecurityContextResolver(SecurityContextCacheProperties properties,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.contexts = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, contexts, CACHE_NAME);
+        }
+    }
+
+    public SecurityContext resolve(Jwt jwt) {
+        if (!properties.isEnabled()) {
+            return JwtAuthenticationConverter.extractSecurityContext(jwt);
+        }
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && !expiresAt.isAfter(Instant.now())) {
+            // Never memoize an expired token; the resource server rejects it anyway
+            return JwtAuthenticationConverter.extractSecurityContext(jwt);
+        }
+        return contexts.get(keyFor(jwt),
+                key -> new Entry(JwtAuthenticationConverter.extractSecurityContext(jwt), expiresAt)).context();
+    }
+
+    private static String keyFor(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti != null) {
+            return "jti:" + jwt.getClaimAsString("iss") + "|" + jti;
+        }
+        return "sha256:" + sha256(jwt.getTokenValue());
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(SecurityContext context, Instant expiresAt) {
+    }
+
+    /**
+     * Expire each entry with its token, never later than max-ttl
+     */
+    private class TokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            Duration maxTtl = properties.getMaxTtl();
+            if (entry.expiresAt() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration untilExpiry = Duration.between(Instant.now(), entry.expiresAt());
+            return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.corporate.travel.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers {@link SecurityContextArgumentResolver} with Spring MVC
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SecurityContextWebConfig implements WebMvcConfigurer {
+
+    private final SecurityContextArgumentResolver securityContextArgumentResolver;
+
+    public SecurityContextWebConfig(SecurityContextArgumentResolver securityContextArgumentResolver) {
+        this.securityContextArgumentResolver = securityContextArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(securityContextArgumentResolver);
+    }
+}
@@ -0,0 +1,54 @@
+package com.corporate.travel.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LocalJwksKeySelectorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void trustsCacheFileOnlyTheOwnerCanWrite() throws IOException {
+        Path file = cacheFile("rw-------");
+
+        assertThat(LocalJwksKeySelector.untrustedReason(file)).isNull();
+    }
+
+    @Test
+    void rejectsGroupWritableCacheFile() throws IOException {
+        Path file = cacheFile("rw-rw----");
+
+        assertThat(LocalJwksKeySelector.untrustedReason(file)).contains("writable by group or others");
+    }
+
+    @Test
+    void rejectsWorldWritableCacheFile() throws IOException {
+        Path file = cacheFile("rw-r--rw-");
+
+        assertThat(LocalJwksKeySelector.untrustedReason(file)).contains("writable by group or others");
+    }
+
+    @Test
+    void rejectsSymbolicLink() throws IOException {
+        Path target = cacheFile("rw-------");
+        Path link = Files.createSymbolicLink(directory.resolve("link.json"), target);
+
+        assertThat(LocalJwksKeySelector.untrustedReason(link)).isEqualTo("not a regular file");
+    }
+
+    private Path cacheFile(String permissions) throws IOException {
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"), "POSIX file system");
+        Path file = Files.writeString(directory.resolve("jwks.json"), "{\"keys\":[]}");
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString(permissions));
+        return file;
+    }
+}
@@ -0,0 +1,105 @@
+package com.corporate.travel.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpaClientTest {
+
+    private static final SecurityContext ALICE = SecurityContext.builder()
+            .userId("alice")
+            .tenantId("tenant-a")
+            .roles(List.of("employee"))
+            .build();
+
+    private static final Map<String, Object> OWN_BOOKING = Map.of(
+            "type", "booking", "tenant_id", "tenant-a", "user_id", "alice");
+
+    @Test
+    void authorizeAsyncReturnsTheEvaluatorsDecision() {
+        StubEvaluator evaluator = new StubEvaluator(Mono.just(true));
+
+        assertThat(client(evaluator).authorizeAsync(ALICE, "view_booking", OWN_BOOKING).block()).isTrue();
+        assertThat(evaluator.lastInput.get())
+                .containsEntry("action", "view_booking")
+                .containsEntry("resource", OWN_BOOKING);
+    }
+
+    @Test
+    void authorizeAsyncFailsClosedOnError() {
+        OpaClient client = client(new StubEvaluator(Mono.error(new TimeoutException("read timeout"))));
+
+        assertThat(client.authorizeAsync(ALICE, "view_booking", OWN_BOOKING).block()).isFalse();
+        assertThat(client.authorize(ALICE, "view_booking", OWN_BOOKING)).isFalse();
+    }
+
+    @Test
+    void authorizeAsyncFailsClosedWithoutDecision() {
+        OpaClient client = client(new StubEvaluator(Mono.empty()));
+
+        assertThat(client.authorizeAsync(ALICE, "view_booking", OWN_BOOKING).block()).isFalse();
+    }
+
+    @Test
+    void authorizeAsyncDoesNotCallTheEvaluatorUntilSubscribed() {
+        StubEvaluator evaluator = new StubEvaluator(Mono.just(true));
+
+        Mono<Boolean> decision = client(evaluator).authorizeAsync(ALICE, "view_booking", OWN_BOOKING);
+
+        assertThat(evaluator.lastInput.get()).isNull();
+        assertThat(decision.block(Duration.ofSeconds(1))).isTrue();
+    }
+
+    @Test
+    void authorizeBatchDeniesEveryResourceWhenDecisionCountIsWrong() {
+        StubEvaluator evaluator = new StubEvaluator(Mono.just(true));
+        evaluator.batchDecision = Mono.just(List.of(true));
+
+        List<Boolean> decisions = client(evaluator)
+                .authorizeBatch(ALICE, "view_booking", List.of(OWN_BOOKING, OWN_BOOKING));
+
+        assertThat(decisions).containsExactly(false, false);
+    }
+
+    private static OpaClient client(PolicyEvaluator evaluator) {
+        return new OpaClient(evaluator, new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(OpaDecisionCache.class));
+    }
+
+    private static final class StubEvaluator implements PolicyEvaluator {
+
+        private final Mono<Boolean> decision;
+        private final AtomicReference<Map<String, Object>> lastInput = new AtomicReference<>();
+        private Mono<List<Boolean>> batchDecision = Mono.empty();
+
+        StubEvaluator(Mono<Boolean> decision) {
+            this.decision = decision;
+        }
+
+        @Override
+        public Mono<Boolean> evaluate(Map<String, Object> input) {
+            lastInput.set(input);
+            return decision;
+        }
+
+        @Override
+        public Mono<List<Boolean>> evaluateBatch(Map<String, Object> input) {
+            lastInput.set(input);
+            return batchDecision;
+        }
+
+        @Override
+        public Mono<ResidualPolicy> partialEvaluate(Map<String, Object> input) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.corporate.travel.security;
+
+import com.corporate.travel.security.ResidualPolicy.Condition;
+import com.corporate.travel.security.ResidualPolicy.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpaCompileResultParserTest {
+
+    @Test
+    void deniesAllWithoutResult() {
+        assertThat(OpaCompileResultParser.parse(Map.of()).isDenyAll()).isTrue();
+        assertThat(OpaCompileResultParser.parse(Map.of("result", Map.of())).isDenyAll()).isTrue();
+    }
+
+    @Test
+    void allowsAllForAnEmptyQuery() {
+        ResidualPolicy residual = parse(List.of());
+
+        assertThat(residual.isDenyAll()).isFalse();
+        assertThat(residual.queries()).containsExactly(List.of());
+    }
+
+    @Test
+    void translatesEqualityWithTheResourceOnEitherSide() {
+        ResidualPolicy residual = parse(List.of(
+                expression("eq", resource("tenant_id"), string("tenant-a")),
+                expression("equal", string("alice"), resource("user_id"))));
+
+        assertThat(residual.queries()).containsExactly(List.of(
+                new Condition("tenant_id", Operator.EQ, "tenant-a"),
+                new Condition("user_id", Operator.EQ, "alice")));
+    }
+
+    @Test
+    void translatesMembershipForms() {
+        ResidualPolicy residual = parse(
+                List.of(expression("internal.member_2", string("alice"), resource("manager_chain"))),
+                List.of(expression("eq", iterated("manager_chain"), string("bob"))));
+
+        assertThat(residual.queries()).containsExactly(
+                List.of(new Condition("manager_chain", Operator.CONTAINS, "alice")),
+                List.of(new Condition("manager_chain", Operator.CONTAINS, "bob")));
+    }
+
+    @Test
+    void discardsOnlyTheQueryWithAnUnsupportedExpression() {
+        Map<String, Object> negated = new HashMap<>(expression("eq", resource("status"), string("CANCELLED")));
+        negated.put("negated", true);
+
+        ResidualPolicy residual = parse(
+                List.of(expression("eq", resource("tenant_id"), string("tenant-a")), negated),
+                List.of(expression("eq", resource("user_id"), string("alice"))));
+
+        assertThat(residual.queries()).containsExactly(
+                List.of(new Condition("user_id", Operator.EQ, "alice")));
+    }
+
+    @Test
+    void deniesAllWhenEveryQueryIsDiscarded() {
+        ResidualPolicy residual = parse(
+                List.of(expression("neq", resource("status"), string("CANCELLED"))),
+                List.of(expression("eq", resource("owner", "id"), string("alice"))),
+                List.of(expression("eq", resource("user_id"), resource("delegator_id"))),
+                List.of(expression("eq", ref("data", "users"), string("alice"))));
+
+        assertThat(residual.isDenyAll()).isTrue();
+    }
+
+    @SafeVarargs
+    private static ResidualPolicy parse(List<Map<String, Object>>... queries) {
+        return OpaCompileResultParser.parse(Map.of("result", Map.of("queries", List.of(queries))));
+    }
+
+    private static Map<String, Object> expression(String operator, Map<String, Object> left, Map<String, Object> right) {
+        List<Map<String, Object>> operatorPath = new ArrayList<>();
+        for (String part : operator.split("\\.")) {
+            operatorPath.add(Map.of("type", "var", "value", part));
+        }
+        return Map.of("index", 0, "terms", List.of(Map.of("type", "ref", "value", operatorPath), left, right));
+    }
+
+    private static Map<String, Object> resource(String... field) {
+        List<String> path = new ArrayList<>(List.of("input", "resource"));
+        path.addAll(List.of(field));
+        return ref(path.toArray(String[]::new));
+    }
+
+    /**
+     * input.resource.field[_] as OPA renders it, with a generated variable
+     */
+    private static Map<String, Object> iterated(String field) {
+        List<Map<String, Object>> path = new ArrayList<>(pathOf("input", "resource", field));
+        path.add(Map.of("type", "var", "value", "$01"));
+        return Map.of("type", "ref", "value", path);
+    }
+
+    private static Map<String, Object> ref(String... path) {
+        return Map.of("type", "ref", "value", pathOf(path));
+    }
+
+    private static List<Map<String, Object>> pathOf(String... path) {
+        List<Map<String, Object>> elements = new ArrayList<>();
+        for (String element : path) {
+            elements.add(Map.of("type", elements.isEmpty() ? "var" : "string", "value", element));
+        }
+        return elements;
+    }
+
+    private static Map<String, Object> string(String value) {
+        return Map.of("type", "string", "value", value);
+    }
+}
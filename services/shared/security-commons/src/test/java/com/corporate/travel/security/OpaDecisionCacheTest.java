@@ -0,0 +1,118 @@
+package com.corporate.travel.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpaDecisionCacheTest {
+
+    private static final SecurityContext ALICE = SecurityContext.builder()
+            .userId("alice")
+            .tenantId("tenant-a")
+            .roles(List.of("manager", "employee"))
+            .build();
+
+    private static final SecurityContext BOB_FOR_ALICE = SecurityContext.builder()
+            .userId("bob")
+            .tenantId("tenant-a")
+            .roles(List.of("employee"))
+            .isDelegated(true)
+            .actorId("bob")
+            .subjectId("alice")
+            .build();
+
+    private static final SecurityContext CAROL = SecurityContext.builder()
+            .userId("carol")
+            .tenantId("tenant-b")
+            .roles(List.of("employee"))
+            .build();
+
+    private final OpaProperties properties = new OpaProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sharesADecisionBetweenEquivalentInputs() throws JsonProcessingException {
+        OpaDecisionCache cache = cache();
+        cache.put(cache.keyFor(ALICE, "view_booking", input(List.of("manager", "employee"), "b-1")), true);
+
+        assertThat(cache.get(cache.keyFor(ALICE, "view_booking", input(List.of("employee", "manager"), "b-1"))))
+                .isTrue();
+    }
+
+    @Test
+    void separatesDecisionsForDifferentInputs() throws JsonProcessingException {
+        OpaDecisionCache cache = cache();
+        cache.put(cache.keyFor(ALICE, "view_booking", input(List.of("employee"), "b-1")), true);
+
+        assertThat(cache.get(cache.keyFor(ALICE, "view_booking", input(List.of("employee"), "b-2")))).isNull();
+        assertThat(cache.get(cache.keyFor(ALICE, "view_booking", input(List.of("manager"), "b-1")))).isNull();
+    }
+
+    @Test
+    void skipsActionsWithZeroTtl() throws JsonProcessingException {
+        properties.getCache().getActionTtl().put("approve_expense", Duration.ZERO);
+        OpaDecisionCache cache = cache();
+        OpaDecisionCache.DecisionKey key = cache.keyFor(ALICE, "approve_expense", input(List.of("manager"), "e-1"));
+
+        cache.put(key, true);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void invalidatesDecisionsMadeForOrOnBehalfOfAUser() throws JsonProcessingException {
+        OpaDecisionCache cache = cache();
+        OpaDecisionCache.DecisionKey own = cache.keyFor(ALICE, "view_booking", input(List.of("employee"), "b-1"));
+        OpaDecisionCache.DecisionKey delegated = cache.keyFor(BOB_FOR_ALICE, "view_booking",
+                input(List.of("employee"), "b-1"));
+        OpaDecisionCache.DecisionKey otherTenant = cache.keyFor(CAROL, "view_booking", input(List.of("employee"), "b-9"));
+        cache.put(own, true);
+        cache.put(delegated, true);
+        cache.put(otherTenant, true);
+
+        cache.invalidateUser("tenant-a", "alice");
+
+        assertThat(cache.get(own)).isNull();
+        assertThat(cache.get(delegated)).isNull();
+        assertThat(cache.get(otherTenant)).isTrue();
+        assertThat(meterRegistry.counter("opa.decisions.invalidations").count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatesEveryDecisionOfATenantOnly() throws JsonProcessingException {
+        OpaDecisionCache cache = cache();
+        OpaDecisionCache.DecisionKey alice = cache.keyFor(ALICE, "view_booking", input(List.of("employee"), "b-1"));
+        OpaDecisionCache.DecisionKey bob = cache.keyFor(BOB_FOR_ALICE, "view_booking", input(List.of("employee"), "b-2"));
+        OpaDecisionCache.DecisionKey carol = cache.keyFor(CAROL, "view_booking", input(List.of("employee"), "b-9"));
+        cache.put(alice, true);
+        cache.put(bob, false);
+        cache.put(carol, true);
+
+        cache.invalidateTenant("tenant-a");
+
+        assertThat(cache.get(alice)).isNull();
+        assertThat(cache.get(bob)).isNull();
+        assertThat(cache.get(carol)).isTrue();
+    }
+
+    private OpaDecisionCache cache() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+        return new OpaDecisionCache(properties, new ObjectMapper(), beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static Map<String, Object> input(List<String> roles, String bookingId) {
+        return Map.of(
+                "user", Map.of("user_id", "alice", "tenant_id", "tenant-a", "roles", roles),
+                "resource", Map.of("type", "booking", "id", bookingId));
+    }
+}
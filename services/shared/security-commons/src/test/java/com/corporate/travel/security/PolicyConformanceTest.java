@@ -0,0 +1,78 @@
+package com.corporate.travel.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Replays opa/conformance-cases.json against every policy evaluator
+ *
+ * The cases mirror scripts/test-opa-policy.sh plus negative cases. The in-process
+ * evaluator is always checked; the OPA server is checked when {@code OPA_URL} is set
+ * (e.g. http://localhost:8181 with docker-compose), so a drift between
+ * authorization.rego and {@link InProcessPolicyEvaluator} fails the build.
+ */
+class PolicyConformanceTest {
+
+    private static final String CASES_RESOURCE = "/opa/conformance-cases.json";
+    private static final Duration OPA_TIMEOUT = Duration.ofSeconds(5);
+
+    private final InProcessPolicyEvaluator inProcess = new InProcessPolicyEvaluator();
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void inProcessEvaluatorReturnsExpectedDecision(ConformanceCase conformanceCase) {
+        Object decision = conformanceCase.isBatch()
+                ? inProcess.batchAllow(conformanceCase.input())
+                : inProcess.allow(conformanceCase.input());
+
+        assertThat(decision).isEqualTo(conformanceCase.expected());
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void opaServerReturnsExpectedDecision(ConformanceCase conformanceCase) {
+        String opaUrl = System.getenv("OPA_URL");
+        assumeTrue(opaUrl != null && !opaUrl.isBlank(), "OPA_URL not set");
+        HttpOpaPolicyEvaluator http = new HttpOpaPolicyEvaluator(WebClient.builder().baseUrl(opaUrl).build());
+
+        Object decision = conformanceCase.isBatch()
+                ? http.evaluateBatch(conformanceCase.input()).block(OPA_TIMEOUT)
+                : http.evaluate(conformanceCase.input()).block(OPA_TIMEOUT);
+
+        assertThat(decision).isEqualTo(conformanceCase.expected());
+    }
+
+    static Stream<Arguments> cases() throws IOException {
+        try (InputStream in = PolicyConformanceTest.class.getResourceAsStream(CASES_RESOURCE)) {
+            List<ConformanceCase> cases = new ObjectMapper().readValue(in, new TypeReference<>() { });
+            assertThat(cases).isNotEmpty();
+            return cases.stream().map(c -> Arguments.of(Named.of(c.name(), c)));
+        }
+    }
+
+    /**
+     * A policy input and the decision OPA must return for it;
+     * {@code expected} is a list of booleans for batch inputs
+     */
+    record ConformanceCase(String name, Map<String, Object> input, Object expected) {
+
+        boolean isBatch() {
+            return input.containsKey("resources");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.corporate.travel.travel;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Travel Service - Manages travel bookings (flights, hotels, car rentals)
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.ComponentScan;
     "com.corporate.travel.travel",
     "com.corporate.travel.security"  // Scan shared security package
 })
+@EnableScheduling
 public class TravelServiceApplication {
     
     public static void main(String[] args) {
@@ -0,0 +1,84 @@
+package com.corporate.travel.travel.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes a batch of audit events with a single {@code COPY ... FROM STDIN}
+ *
+ * One round trip and no per-row statement overhead; the batch commits or fails as a whole.
+ */
+class AuditCopyWriter {
+
+    private static final String COPY_SQL = "COPY travel.booking_audit "
+            + "(booking_id, tenant_id, actor_id, subject_id, action, decision, details, timestamp) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    AuditCopyWriter(DataSource dataSource, ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return rows written
+     */
+    long write(List<AuditEvent> events) throws SQLException, IOException {
+        String csv = toCsv(events);
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(csv));
+        }
+    }
+
+    private String toCsv(List<AuditEvent> events) throws JsonProcessingException {
+        StringBuilder csv = new StringBuilder(events.size() * 256);
+        for (AuditEvent event : events) {
+            // An unquoted empty field is NULL in CSV mode
+            if (event.bookingId() != null) {
+                csv.append(event.bookingId());
+            }
+            csv.append(',');
+            quote(csv, event.tenantId()).append(',');
+            quote(csv, event.actorId()).append(',');
+            quote(csv, event.subjectId()).append(',');
+            quote(csv, event.action()).append(',');
+            csv.append(event.allowed() ? "allow" : "deny").append(',');
+            if (event.details() != null && !event.details().isEmpty()) {
+                quote(csv, objectMapper.writeValueAsString(event.details()));
+            }
+            csv.append(',');
+            csv.append(event.timestamp()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Missing values become empty strings so one incomplete event cannot fail its batch
+     */
+    private static StringBuilder quote(StringBuilder csv, String value) {
+        csv.append('"');
+        if (value == null) {
+            return csv.append('"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
@@ -0,0 +1,43 @@
+package com.corporate.travel.travel.audit;
+
+import com.corporate.travel.security.SecurityContext;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One row of {@code travel.booking_audit}: who did what to which booking, and what OPA decided
+ *
+ * @param bookingId null when no booking exists yet (a denied create)
+ * @param actorId   the authenticated user
+ * @param subjectId on whose behalf the action was taken (the actor unless delegated)
+ * @param details   extra context stored as JSONB, may be empty
+ */
+public record AuditEvent(
+        LocalDateTime timestamp,
+        String tenantId,
+        UUID bookingId,
+        String actorId,
+        String subjectId,
+        String action,
+        boolean allowed,
+        Map<String, Object> details) {
+
+    public static AuditEvent allowed(SecurityContext context, String action, UUID bookingId,
+                                     Map<String, Object> details) {
+        return of(context, action, bookingId, true, details);
+    }
+
+    public static AuditEvent denied(SecurityContext context, String action, UUID bookingId,
+                                    Map<String, Object> details) {
+        return of(context, action, bookingId, false, details);
+    }
+
+    private static AuditEvent of(SecurityContext context, String action, UUID bookingId, boolean allowed,
+                                 Map<String, Object> details) {
+        String subjectId = context.getSubjectId() != null ? context.getSubjectId() : context.getUserId();
+        return new AuditEvent(LocalDateTime.now(), context.getTenantId(), bookingId,
+                context.getUserId(), subjectId, action, allowed, details);
+    }
+}
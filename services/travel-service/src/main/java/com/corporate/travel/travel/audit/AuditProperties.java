@@ -0,0 +1,77 @@
+package com.corporate.travel.travel.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Booking audit pipeline configuration bound from the {@code booking.audit.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.audit")
+@Data
+public class AuditProperties {
+
+    /**
+     * Whether booking actions are written to travel.booking_audit
+     */
+    private boolean enabled = true;
+
+    /**
+     * Events buffered in memory before the overflow policy applies
+     */
+    private int capacity = 16_384;
+
+    /**
+     * Upper bound on rows per COPY
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * How long the writer waits for a batch to fill before writing what it has
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * What happens to an event when the buffer is full
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * Longest a request thread waits for space under {@link OverflowPolicy#BLOCK}
+     * before the event is dropped
+     */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /**
+     * Attempts per batch before its events are dropped (the database is down)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay between attempts of a failed batch
+     */
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * How long shutdown waits for buffered events to be written
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public enum OverflowPolicy {
+        /**
+         * Wait up to offer-timeout for space, then drop the new event
+         */
+        BLOCK,
+        /**
+         * Drop the new event immediately
+         */
+        DROP_NEWEST,
+        /**
+         * Make room by dropping the oldest buffered event
+         */
+        DROP_OLDEST
+    }
+}
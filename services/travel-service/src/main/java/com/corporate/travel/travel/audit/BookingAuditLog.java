@@ -0,0 +1,241 @@
+package com.corporate.travel.travel.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous, batched writer for {@code travel.booking_audit}
+ *
+ * Request threads only put events into a bounded in-memory ring buffer; a single
+ * background thread drains it and writes up to {@code booking.audit.batch-size}
+ * rows per {@code COPY}. Audit logging therefore adds no database round trip to
+ * a booking transaction.
+ *
+ * Backpressure is explicit. When the buffer is full (the database is slow or
+ * down), {@code booking.audit.overflow-policy} decides whether the caller waits
+ * up to {@code offer-timeout}, or the newest or oldest event is dropped. Every
+ * drop is counted in {@code booking.audit.events{result="dropped"}}, never silent.
+ *
+ * Allowed actions are enqueued only once their transaction commits; denials are
+ * enqueued immediately since they roll back. On shutdown the buffer is written
+ * out, up to {@code shutdown-timeout}, after the web server stopped taking requests.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class BookingAuditLog implements SmartLifecycle {
+
+    /**
+     * Start before and stop after the web server, so no request outlives the writer
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditProperties properties;
+    private final AuditCopyWriter writer;
+    private final ArrayBlockingQueue<AuditEvent> buffer;
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public BookingAuditLog(AuditProperties properties,
+                           DataSource dataSource,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        if (properties.getCapacity() < 1 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("booking.audit.capacity and batch-size must be at least 1");
+        }
+        this.properties = properties;
+        this.writer = new AuditCopyWriter(dataSource, objectMapper);
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        this.enqueued = events(meterRegistry, "enqueued");
+        this.dropped = events(meterRegistry, "dropped");
+        this.written = events(meterRegistry, "written");
+        this.failed = events(meterRegistry, "failed");
+        this.batchTimer = Timer.builder("booking.audit.batch")
+                .description("Time to write one batch of audit events")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("booking.audit.buffer.size", buffer, ArrayBlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+
+        log.info("Booking audit: enabled={}, capacity={}, batchSize={}, overflowPolicy={}",
+                properties.isEnabled(), properties.getCapacity(), properties.getBatchSize(),
+                properties.getOverflowPolicy());
+    }
+
+    /**
+     * Queue an event for writing; never blocks longer than {@code offer-timeout}
+     *
+     * Inside a transaction, allowed actions wait for the commit so that a rolled
+     * back change is not audited as done.
+     */
+    public void record(AuditEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (event.allowed() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (!running) {
+            drop(event, "writer stopped");
+            return;
+        }
+        boolean accepted = switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> buffer.offer(event);
+            case DROP_OLDEST -> offerDroppingOldest(event);
+            case BLOCK -> offerWaiting(event);
+        };
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            drop(event, "buffer full");
+        }
+    }
+
+    private boolean offerDroppingOldest(AuditEvent event) {
+        while (!buffer.offer(event)) {
+            AuditEvent oldest = buffer.poll();
+            if (oldest != null) {
+                drop(oldest, "buffer full");
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(AuditEvent event) {
+        try {
+            return buffer.offer(event, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop(AuditEvent event, String reason) {
+        dropped.increment();
+        log.warn("Dropped audit event ({}): {} {} on booking {} by {} in tenant {}", reason,
+                event.allowed() ? "allowed" : "denied", event.action(), event.bookingId(),
+                event.actorId(), event.tenantId());
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "booking-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(properties.getShutdownTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                log.error("Booking audit writer did not finish within {}, {} events lost",
+                        properties.getShutdownTimeout(), buffer.size());
+                thread.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long flushNanos = properties.getFlushInterval().toNanos();
+        // After stop(), keep going until everything buffered is written
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(flushNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("Booking audit writer stopped");
+    }
+
+    private void writeWithRetry(List<AuditEvent> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start();
+            try {
+                written.increment(writer.write(batch));
+                sample.stop(batchTimer);
+                return;
+            } catch (Exception e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    failed.increment(batch.size());
+                    log.error("Failed to write {} audit events after {} attempts: {}",
+                            batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("Writing {} audit events failed (attempt {}), retrying in {}: {}",
+                        batch.size(), attempt, properties.getRetryDelay(), e.getMessage());
+                Thread.sleep(properties.getRetryDelay().toMillis());
+            }
+        }
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("booking.audit.events")
+                .description("Booking audit events by what happened to them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.corporate.travel.travel.autocomplete;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Destination autocomplete configuration bound from the {@code booking.autocomplete.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.autocomplete")
+@Data
+public class AutocompleteProperties {
+
+    /**
+     * Whether destination suggestions are served; when off the endpoint returns none
+     */
+    private boolean enabled = true;
+
+    /**
+     * Estimated heap per tenant index; the least booked destinations are dropped beyond it
+     */
+    private DataSize maxSizePerTenant = DataSize.ofKilobytes(256);
+
+    /**
+     * Tenants kept in memory; the least recently used index is dropped beyond it
+     */
+    private long maxTenants = 1_000;
+
+    /**
+     * How often a tenant's index is reloaded from travel.bookings in the background,
+     * picking up changes made through other replicas
+     */
+    private Duration refreshInterval = Duration.ofMinutes(15);
+
+    /**
+     * Upper bound on suggestions per request
+     */
+    private int maxSuggestions = 20;
+}
@@ -0,0 +1,234 @@
+package com.corporate.travel.travel.autocomplete;
+
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
+import com.corporate.travel.travel.model.entity.Booking;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Per-tenant destination type-ahead served from memory
+ *
+ * Each tenant's {@link DestinationIndex} is loaded from travel.bookings on its
+ * first lookup (one GROUP BY), then kept current by the create and delete
+ * hooks that BookingServiceImpl calls inside its transactions; they apply
+ * after commit. Lookups never touch the database.
+ *
+ * Memory is bounded twice: each index stays within
+ * {@code booking.autocomplete.max-size-per-tenant}, and at most
+ * {@code booking.autocomplete.max-tenants} indexes are kept. Changes made
+ * through other replicas arrive with the background reload every
+ * {@code booking.autocomplete.refresh-interval}, which also restores
+ * destinations that only became popular after the budget was full.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class DestinationAutocomplete implements DisposableBean {
+
+    static final String CACHE_NAME = "destinations";
+
+    private static final String LOAD_DESTINATIONS = """
+        SELECT destination, count(*) AS bookings
+        FROM travel.bookings
+        WHERE tenant_id = ? AND destination IS NOT NULL
+        GROUP BY destination
+        ORDER BY bookings DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AutocompleteProperties properties;
+    private final AsyncLoadingCache<String, DestinationIndex> indexes;
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer loads;
+    private final Counter dropped;
+
+    public DestinationAutocomplete(JdbcTemplate jdbcTemplate,
+                                   AutocompleteProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTenants())
+                .executor(loader)
+                .recordStats()
+                .buildAsync(new CacheLoader<String, DestinationIndex>() {
+                    @Override
+                    public DestinationIndex load(String tenantId) {
+                        return DestinationAutocomplete.this.load(tenantId, null);
+                    }
+
+                    @Override
+                    public DestinationIndex reload(String tenantId, DestinationIndex previous) {
+                        return DestinationAutocomplete.this.load(tenantId, previous);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, CACHE_NAME);
+        this.loads = Timer.builder("booking.autocomplete.load")
+                .description("Time to load a tenant's destination index from the database")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("booking.autocomplete.dropped")
+                .description("Destinations left out of a tenant index by the size budget")
+                .register(meterRegistry);
+        Gauge.builder("booking.autocomplete.size", this, DestinationAutocomplete::sizeInBytes)
+                .description("Estimated heap held by all tenant destination indexes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("Destination autocomplete: enabled={}, maxSizePerTenant={}, maxTenants={}, refreshInterval={}",
+                properties.isEnabled(), properties.getMaxSizePerTenant(), properties.getMaxTenants(),
+                properties.getRefreshInterval());
+    }
+
+    /**
+     * Destinations in the tenant starting with prefix, most booked first
+     *
+     * The first lookup for a tenant waits for its index to load; later ones are
+     * answered from memory, and a stale index is reloaded in the background.
+     */
+    public List<DestinationSuggestion> suggest(String tenantId, String prefix, int limit) {
+        if (!properties.isEnabled()) {
+            return List.of();
+        }
+        DestinationIndex index = join(indexes.get(tenantId));
+        if (index.isOlderThan(properties.getRefreshInterval())) {
+            indexes.synchronous().refresh(tenantId);
+        }
+        return index.suggest(prefix, Math.min(limit, properties.getMaxSuggestions()));
+    }
+
+    /**
+     * Count a new booking's destination once its transaction commits
+     */
+    public void created(Booking booking) {
+        created(List.of(booking));
+    }
+
+    public void created(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> deltas = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getDestination() != null) {
+                deltas.merge(booking.getDestination(), 1, Integer::sum);
+            }
+        }
+        afterCommit(bookings.get(0).getTenantId(), deltas);
+    }
+
+    /**
+     * Uncount a deleted booking's destination once its transaction commits
+     */
+    public void deleted(Booking booking) {
+        if (booking.getDestination() != null) {
+            afterCommit(booking.getTenantId(), Map.of(booking.getDestination(), -1));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        loader.shutdown();
+    }
+
+    private void afterCommit(String tenantId, Map<String, Integer> deltas) {
+        if (!properties.isEnabled() || deltas.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(tenantId, deltas);
+                }
+            });
+        } else {
+            apply(tenantId, deltas);
+        }
+    }
+
+    /**
+     * Tenants without an index pick the change up from the database when first used
+     */
+    private void apply(String tenantId, Map<String, Integer> deltas) {
+        long maxBytes = properties.getMaxSizePerTenant().toBytes();
+        indexes.asMap().computeIfPresent(tenantId, (tenant, index) -> index.thenApply(current -> {
+            DestinationIndex updated = current.apply(deltas, maxBytes);
+            countDropped(current, updated);
+            return updated;
+        }));
+    }
+
+    /**
+     * Reloads start from scratch; only destinations beyond those the previous index left out count
+     */
+    private DestinationIndex load(String tenantId, DestinationIndex previous) {
+        long maxBytes = properties.getMaxSizePerTenant().toBytes();
+        // Most booked first, so the most common spelling of a destination wins
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        DestinationIndex index = loads.record(() -> {
+            jdbcTemplate.query(LOAD_DESTINATIONS,
+                    (RowCallbackHandler) row -> counts.put(row.getString("destination"), row.getInt("bookings")),
+                    tenantId, maxBytes / DestinationIndex.ENTRY_OVERHEAD_BYTES);
+            return DestinationIndex.load(counts, maxBytes);
+        });
+        countDropped(previous, index);
+        log.debug("Loaded {} destinations ({} bytes) for tenant {}", index.size(), index.sizeInBytes(), tenantId);
+        return index;
+    }
+
+    /**
+     * Count only destinations newly left out, not those the previous index already dropped
+     */
+    private void countDropped(DestinationIndex previous, DestinationIndex updated) {
+        int before = previous != null ? previous.dropped() : 0;
+        if (updated.dropped() > before) {
+            dropped.increment(updated.dropped() - before);
+        }
+    }
+
+    private double sizeInBytes() {
+        long total = 0;
+        for (CompletableFuture<DestinationIndex> index : indexes.asMap().values()) {
+            if (index.isDone() && !index.isCompletedExceptionally()) {
+                total += index.join().sizeInBytes();
+            }
+        }
+        return total;
+    }
+
+    private static DestinationIndex join(CompletableFuture<DestinationIndex> index) {
+        try {
+            return index.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.corporate.travel.travel.autocomplete;
+
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable prefix index over one tenant's destinations, weighted by booking count
+ *
+ * Destinations are keyed by their trimmed, lower-cased name and held in three
+ * parallel arrays sorted by key, so all names starting with a prefix form one
+ * contiguous run found by binary search. A lookup scans that run once for the
+ * highest counts; the run can be no longer than the size budget allows.
+ *
+ * Updates build a new index (copy on write), so lookups never lock. When the
+ * budget is exceeded the least booked destinations are left out.
+ */
+final class DestinationIndex {
+
+    /**
+     * Estimated heap per entry besides its characters: two Strings with their
+     * backing arrays, the count and three array slots
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final String[] keys;
+    private final String[] names;
+    private final int[] counts;
+    private final long sizeInBytes;
+    private final int dropped;
+    private final long loadedAtNanos;
+
+    private DestinationIndex(String[] keys, String[] names, int[] counts,
+                             long sizeInBytes, int dropped, long loadedAtNanos) {
+        this.keys = keys;
+        this.names = names;
+        this.counts = counts;
+        this.sizeInBytes = sizeInBytes;
+        this.dropped = dropped;
+        this.loadedAtNanos = loadedAtNanos;
+    }
+
+    /**
+     * Index over destination counts as read from the database, most booked first
+     */
+    static DestinationIndex load(Map<String, Integer> countsByDestination, long maxBytes) {
+        Map<String, Entry> entries = new HashMap<>(countsByDestination.size());
+        for (Map.Entry<String, Integer> row : countsByDestination.entrySet()) {
+            merge(entries, row.getKey(), row.getValue());
+        }
+        return build(entries.values(), maxBytes, 0, System.nanoTime());
+    }
+
+    /**
+     * A copy with booking counts adjusted; a destination whose count drops to
+     * zero is removed. Keeps the load time, so refreshes stay on schedule.
+     */
+    DestinationIndex apply(Map<String, Integer> deltasByDestination, long maxBytes) {
+        Map<String, Entry> entries = new HashMap<>(keys.length + deltasByDestination.size());
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], new Entry(keys[i], names[i], counts[i]));
+        }
+        for (Map.Entry<String, Integer> delta : deltasByDestination.entrySet()) {
+            merge(entries, delta.getKey(), delta.getValue());
+        }
+        return build(entries.values(), maxBytes, dropped, loadedAtNanos);
+    }
+
+    /**
+     * Up to limit destinations starting with prefix (case-insensitive), most booked first
+     */
+    List<DestinationSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key == null || limit < 1) {
+            return List.of();
+        }
+        int found = Arrays.binarySearch(keys, key);
+        int from = found >= 0 ? found : -found - 1;
+
+        // Top counts over the run; ties stay in alphabetical order
+        int[] top = new int[limit];
+        int size = 0;
+        for (int i = from; i < keys.length && keys[i].startsWith(key); i++) {
+            if (size == limit && counts[i] <= counts[top[size - 1]]) {
+                continue;
+            }
+            int position = size < limit ? size++ : size - 1;
+            while (position > 0 && counts[top[position - 1]] < counts[i]) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = i;
+        }
+
+        List<DestinationSuggestion> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(new DestinationSuggestion(names[top[i]], counts[top[i]]));
+        }
+        return suggestions;
+    }
+
+    boolean isOlderThan(Duration age) {
+        return System.nanoTime() - loadedAtNanos > age.toNanos();
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Destinations left out by the size budget since the index was loaded: at the
+     * load, plus those pushed out by later updates
+     */
+    int dropped() {
+        return dropped;
+    }
+
+    static String normalize(String destination) {
+        if (destination == null || destination.isBlank()) {
+            return null;
+        }
+        return destination.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static void merge(Map<String, Entry> entries, String destination, int delta) {
+        String key = normalize(destination);
+        if (key == null) {
+            return;
+        }
+        entries.compute(key, (k, entry) -> {
+            int count = (entry != null ? entry.count() : 0) + delta;
+            if (count <= 0) {
+                return null;
+            }
+            // The first spelling seen is kept; loads see the most booked one first
+            return new Entry(k, entry != null ? entry.name() : destination.strip(), count);
+        });
+    }
+
+    private static DestinationIndex build(Collection<Entry> entries, long maxBytes, int droppedBefore,
+                                          long loadedAtNanos) {
+        List<Entry> ranked = new ArrayList<>(entries);
+        ranked.sort(Comparator.comparingInt(Entry::count).reversed());
+
+        List<Entry> kept = new ArrayList<>(ranked.size());
+        long size = 0;
+        for (Entry entry : ranked) {
+            long entrySize = entry.sizeInBytes();
+            if (size + entrySize > maxBytes) {
+                break;
+            }
+            kept.add(entry);
+            size += entrySize;
+        }
+        kept.sort(Comparator.comparing(Entry::key));
+
+        String[] keys = new String[kept.size()];
+        String[] names = new String[kept.size()];
+        int[] counts = new int[kept.size()];
+        for (int i = 0; i < kept.size(); i++) {
+            keys[i] = kept.get(i).key();
+            names[i] = kept.get(i).name();
+            counts[i] = kept.get(i).count();
+        }
+        return new DestinationIndex(keys, names, counts, size, droppedBefore + ranked.size() - kept.size(),
+                loadedAtNanos);
+    }
+
+    private record Entry(String key, String name, int count) {
+
+        /**
+         * Two bytes per character, so non-Latin-1 names stay within budget too
+         */
+        long sizeInBytes() {
+            return ENTRY_OVERHEAD_BYTES + 2L * (key.length() + name.length());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.corporate.travel.travel.cache;
+
+import com.corporate.travel.travel.model.entity.Booking;
+import com.corporate.travel.travel.repository.BookingRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Read-through cache of bookings keyed by (tenantId, id)
+ *
+ * Writers call {@link #publishChange} inside their transaction. That evicts the
+ * entry locally and issues a Postgres NOTIFY, which the database delivers to
+ * every replica's {@link BookingChangeListener} only if the transaction commits.
+ *
+ * Staleness is bounded three ways: entries are served only while this replica's
+ * listener is connected (everything is dropped on reconnect), every entry expires
+ * after {@code booking.cache.ttl}, and the commit-to-eviction delay of every
+ * notification is recorded as {@code booking.cache.invalidation.lag}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class BookingCache implements DisposableBean {
+
+    static final String CACHE_NAME = "bookings";
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingCacheProperties properties;
+    private final AsyncCache<Key, Booking> bookings;
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+    private final Timer invalidationLag;
+
+    private volatile boolean listening;
+
+    public BookingCache(BookingRepository bookingRepository,
+                        JdbcTemplate jdbcTemplate,
+                        BookingCacheProperties properties,
+                        MeterRegistry meterRegistry) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid booking.cache.channel: " + properties.getChannel());
+        }
+        this.bookingRepository = bookingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.bookings = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, bookings, CACHE_NAME);
+        this.localInvalidations = Counter.builder("booking.cache.invalidations")
+                .description("Booking cache entries invalidated")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("booking.cache.invalidations")
+                .description("Booking cache entries invalidated")
+                .tag("source", "notify")
+                .register(meterRegistry);
+        this.invalidationLag = Timer.builder("booking.cache.invalidation.lag")
+                .description("Time from a booking change being published to this replica evicting it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("booking.cache.listening", this, cache -> cache.listening ? 1 : 0)
+                .description("1 while change notifications are received and the cache is serving")
+                .register(meterRegistry);
+
+        log.info("Booking cache: enabled={}, maximumSize={}, ttl={}, channel={}",
+                properties.isEnabled(), properties.getMaximumSize(), properties.getTtl(), properties.getChannel());
+    }
+
+    /**
+     * Find a booking by ID within a tenant, loading it on a miss
+     *
+     * Concurrent misses for a key share one in-flight load. An invalidation that
+     * arrives during the load removes the pending entry, so the possibly stale
+     * result is returned to its callers but never cached. The load runs on a
+     * virtual thread rather than inside the cache's map computation, which would
+     * hold a monitor (and pin a virtual carrier thread) across the JDBC call.
+     */
+    public Optional<Booking> find(UUID id, String tenantId) {
+        if (!isServing()) {
+            return bookingRepository.findByIdAndTenantId(id, tenantId);
+        }
+        CompletableFuture<Booking> booking = bookings.get(new Key(tenantId, id),
+                (key, executor) -> CompletableFuture.supplyAsync(
+                        () -> bookingRepository.findByIdAndTenantId(key.id(), key.tenantId()).orElse(null), loader));
+        try {
+            return Optional.ofNullable(booking.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Announce that a booking changed or was deleted
+     *
+     * Must be called inside the writing transaction: the NOTIFY is delivered to
+     * all replicas (including this one) on commit and discarded on rollback.
+     */
+    public void publishChange(String tenantId, UUID id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Key key = new Key(tenantId, id);
+        evictLocally(key);
+        jdbcTemplate.queryForList("select pg_notify(?, ?)",
+                properties.getChannel(), encode(key, System.currentTimeMillis()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Readers may have re-cached the old row before commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Apply a change notification received from the channel
+     */
+    void onNotification(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed booking change notification: {}", payload);
+            return;
+        }
+        try {
+            Key key = new Key(parts[2], UUID.fromString(parts[0]));
+            long sentAt = Long.parseLong(parts[1]);
+            bookings.synchronous().invalidate(key);
+            remoteInvalidations.increment();
+            invalidationLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - sentAt)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed booking change notification: {}", payload);
+        }
+    }
+
+    /**
+     * Called by the listener: entries are only trusted while notifications flow
+     */
+    void setListening(boolean listening) {
+        if (this.listening != listening) {
+            // Changes may have been missed while not listening
+            bookings.synchronous().invalidateAll();
+            log.info("Booking cache {}", listening ? "serving" : "bypassed until the change listener reconnects");
+        }
+        this.listening = listening;
+    }
+
+    String channel() {
+        return properties.getChannel();
+    }
+
+    private boolean isServing() {
+        return properties.isEnabled() && listening;
+    }
+
+    @Override
+    public void destroy() {
+        loader.shutdown();
+    }
+
+    private void evictLocally(Key key) {
+        bookings.synchronous().invalidate(key);
+        localInvalidations.increment();
+    }
+
+    /**
+     * Payload "id|sentAtMillis|tenantId"; the tenant goes last as it is free-form
+     */
+    private static String encode(Key key, long sentAtMillis) {
+        return key.id() + "|" + sentAtMillis + "|" + key.tenantId();
+    }
+
+    record Key(String tenantId, UUID id) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.corporate.travel.travel.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Booking cache configuration bound from the {@code booking.cache.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.cache")
+@Data
+public class BookingCacheProperties {
+
+    /**
+     * Whether getBooking reads through the in-memory cache
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the number of cached bookings
+     */
+    private long maximumSize = 50_000;
+
+    /**
+     * Hard upper bound on how long an entry may be served; caps staleness
+     * should a change notification ever be lost
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Postgres NOTIFY channel shared by all replicas
+     */
+    private String channel = "booking_changes";
+
+    /**
+     * How long the listener waits for notifications per poll
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Delay before the listener reconnects after losing its connection
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
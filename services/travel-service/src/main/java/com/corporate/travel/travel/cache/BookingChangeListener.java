@@ -0,0 +1,122 @@
+package com.corporate.travel.travel.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Keeps a dedicated Postgres connection LISTENing on the booking change channel
+ * and evicts the bookings it is told about
+ *
+ * The connection is opened outside the pool since LISTEN is bound to a session.
+ * While it is down the cache is bypassed, and it is flushed on every reconnect.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class BookingChangeListener implements SmartLifecycle {
+
+    private final BookingCache bookingCache;
+    private final BookingCacheProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public BookingChangeListener(BookingCache bookingCache,
+                                 BookingCacheProperties properties,
+                                 DataSourceProperties dataSourceProperties) {
+        this.bookingCache = bookingCache;
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "booking-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getPollInterval().multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        bookingCache.setListening(false);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + bookingCache.channel());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                bookingCache.setListening(true);
+                log.info("Listening for booking changes on channel {}", bookingCache.channel());
+
+                int pollMillis = (int) properties.getPollInterval().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        bookingCache.onNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Booking change listener disconnected, retrying in {}: {}",
+                            properties.getReconnectDelay(), e.getMessage());
+                }
+            } finally {
+                bookingCache.setListening(false);
+            }
+            pause();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void pause() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
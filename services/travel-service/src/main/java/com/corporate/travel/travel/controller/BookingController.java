@@ -1,8 +1,15 @@
 package com.corporate.travel.travel.controller;
 
 import com.corporate.travel.models.BookingStatus;
-import com.corporate.travel.security.JwtAuthenticationConverter;
 import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.model.dto.BookingExportFormat;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingSearchRequest;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.dto.BulkBookingResult;
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
 import com.corporate.travel.travel.model.entity.Booking;
 import com.corporate.travel.travel.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,13 +22,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,12 +46,15 @@ import java.util.UUID;
  */
 @RestController
 @RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Bookings", description = "Travel booking management API")
 @SecurityRequirement(name = "bearerAuth")
 public class BookingController {
     
+    private static final int MAX_VISIBLE_LIMIT = 500;
+
     private final BookingService bookingService;
     
     /**
@@ -62,9 +77,8 @@ public class BookingController {
     public ResponseEntity<Booking> createBooking(
             @Parameter(description = "Booking details", required = true)
             @Valid @RequestBody Booking booking,
-            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+            @Parameter(hidden = true) SecurityContext context) {
         
-        SecurityContext context = JwtAuthenticationConverter.extractSecurityContext(jwt);
         log.info("Creating booking for user: {}", context.getUserId());
         
         Booking created = bookingService.createBooking(booking, context);
@@ -72,29 +86,215 @@ public class BookingController {
     }
     
     /**
-     * Get all bookings for the current user
+     * Create many bookings in one request
+     *
+     * POST /api/bookings/bulk
+     */
+    @Operation(
+        summary = "Create bookings in bulk",
+        description = "Creates up to " + BookingService.MAX_BULK_SIZE + " bookings, e.g. for group travel or migrations. "
+            + "Each booking is owned by its userId (default: the caller); creating bookings for other users requires "
+            + "the create_booking_for_user permission. Returns a per-item outcome in request order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Request processed; see per-item status"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized request", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content)
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkBookingResult> createBookings(
+            @Parameter(description = "Bookings to create", required = true)
+            @RequestBody List<Booking> bookings,
+            @Parameter(hidden = true) SecurityContext context) {
+
+        log.info("Bulk creating {} bookings for user: {}", bookings.size(), context.getUserId());
+
+        if (bookings.isEmpty() || bookings.size() > BookingService.MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("bulk requests must contain between 1 and "
+                + BookingService.MAX_BULK_SIZE + " bookings");
+        }
+
+        BulkBookingResult result = bookingService.createBookings(bookings, context);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Get one page of bookings for the current user
      * 
-     * GET /api/bookings
+     * GET /api/bookings?limit=20&cursor=...
      */
     @Operation(
-        summary = "Get all bookings",
-        description = "Retrieves all bookings for the authenticated user with multi-tenant isolation"
+        summary = "Get bookings",
+        description = "Retrieves the authenticated user's bookings, newest first, with multi-tenant isolation. "
+            + "Results are keyset-paginated: pass the returned nextCursor to fetch the following page. "
+            + "Page size is capped at " + BookingService.MAX_PAGE_SIZE + ". "
+            + "Items are summaries without details unless view=full."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or filter", content = @Content),
         @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
         @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<Booking>> getUserBookings(
-            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        SecurityContext context = JwtAuthenticationConverter.extractSecurityContext(jwt);
+    public ResponseEntity<BookingPage<? extends BookingListItem>> getUserBookings(
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + BookingService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Only bookings in this status")
+            @RequestParam(required = false) BookingStatus status,
+            @Parameter(description = "Only bookings starting on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @Parameter(description = "Only bookings starting on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @Parameter(description = "summary (default, without details) or full")
+            @RequestParam(defaultValue = "summary") String view,
+            @Parameter(hidden = true) SecurityContext context) {
         log.debug("Fetching bookings for user: {}", context.getUserId());
         
-        List<Booking> bookings = bookingService.getUserBookings(context);
+        BookingListRequest request = BookingListRequest.builder()
+            .cursor(cursor)
+            .limit(limit)
+            .status(status)
+            .startFrom(startFrom)
+            .startTo(startTo)
+            .view(BookingView.parse(view))
+            .build();
+
+        BookingPage<? extends BookingListItem> page = bookingService.getUserBookings(context, request);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Get every booking the caller may view in their tenant
+     *
+     * GET /api/bookings/visible
+     */
+    @Operation(
+        summary = "Get visible bookings",
+        description = "Retrieves all bookings in the tenant the caller may view (own, delegated, or tenant-wide for admins). Visibility is computed by OPA partial evaluation and applied as a database filter. "
+            + "Items are summaries without details unless view=full."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or view", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content)
+    })
+    @GetMapping("/visible")
+    public ResponseEntity<List<? extends BookingListItem>> getVisibleBookings(
+            @Parameter(description = "Maximum number of bookings (1-" + MAX_VISIBLE_LIMIT + ")")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "summary (default, without details) or full")
+            @RequestParam(defaultValue = "summary") String view,
+            @Parameter(hidden = true) SecurityContext context) {
+        log.debug("Fetching visible bookings for user: {}", context.getUserId());
+
+        if (limit < 1 || limit > MAX_VISIBLE_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_VISIBLE_LIMIT);
+        }
+
+        List<? extends BookingListItem> bookings = bookingService.getVisibleBookings(context, limit, BookingView.parse(view));
         return ResponseEntity.ok(bookings);
     }
     
+    /**
+     * Search the bookings the caller may view in their tenant
+     *
+     * POST /api/bookings/search
+     */
+    @Operation(
+        summary = "Search bookings",
+        description = "Searches the bookings in the tenant the caller may view by destination (prefix or substring), "
+            + "travel-date overlap, statuses, type, amount range and a JSON document the details must contain. "
+            + "Filters are optional and combined with AND; each is served by an index. "
+            + "Results are newest first and keyset-paginated like GET /api/bookings."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching bookings"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, cursor or limit", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content)
+    })
+    @PostMapping("/search")
+    public ResponseEntity<BookingPage<? extends BookingListItem>> searchBookings(
+            @Parameter(description = "Search filters", required = true)
+            @RequestBody BookingSearchRequest request,
+            @Parameter(hidden = true) SecurityContext context) {
+        log.debug("Searching bookings for user: {}", context.getUserId());
+
+        BookingPage<? extends BookingListItem> page = bookingService.searchBookings(context, request);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Destination type-ahead for the booking form
+     *
+     * GET /api/bookings/destinations?prefix=ber
+     */
+    @Operation(
+        summary = "Suggest destinations",
+        description = "Returns destinations used by bookings in the caller's tenant that start with the prefix "
+            + "(case-insensitive), most booked first. Served from an in-memory index without a database query."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions, possibly empty"),
+        @ApiResponse(responseCode = "400", description = "Invalid prefix or limit", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content)
+    })
+    @GetMapping("/destinations")
+    public ResponseEntity<List<DestinationSuggestion>> suggestDestinations(
+            @Parameter(description = "Start of the destination name", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(hidden = true) SecurityContext context) {
+        if (prefix.isBlank() || limit < 1) {
+            throw new IllegalArgumentException("prefix must not be blank and limit must be at least 1");
+        }
+        return ResponseEntity.ok(bookingService.suggestDestinations(context, prefix, limit));
+    }
+
+    /**
+     * Export every booking in the caller's tenant
+     *
+     * GET /api/bookings/export?format=ndjson
+     */
+    @Operation(
+        summary = "Export bookings",
+        description = "Streams every booking in the caller's tenant as NDJSON (default) or CSV. "
+            + "Rows are written as they are read, so exports of any size use constant memory. Requires the export_bookings permission."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream",
+            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Unknown format", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content)
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Output format: ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(hidden = true) SecurityContext context) {
+        BookingExportFormat exportFormat = BookingExportFormat.valueOf(format.toUpperCase());
+        log.info("Exporting bookings of tenant {} as {} for user: {}",
+            context.getTenantId(), exportFormat, context.getUserId());
+
+        // Fail with 403 before the response is committed
+        bookingService.authorizeExport(context);
+
+        StreamingResponseBody body = out -> bookingService.exportBookings(context, exportFormat, out);
+        String filename = "bookings-" + context.getTenantId() + "." + exportFormat.getFileExtension();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(filename)
+                .build()
+                .toString())
+            .body(body);
+    }
+
     /**
      * Get a specific booking by ID
      * 
@@ -115,9 +315,8 @@ public class BookingController {
     public ResponseEntity<Booking> getBooking(
             @Parameter(description = "Booking UUID", required = true)
             @PathVariable UUID id,
-            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+            @Parameter(hidden = true) SecurityContext context) {
         
-        SecurityContext context = JwtAuthenticationConverter.extractSecurityContext(jwt);
         log.debug("Fetching booking {} for user: {}", id, context.getUserId());
         
         Booking booking = bookingService.getBooking(id, context);
@@ -131,7 +330,8 @@ public class BookingController {
      */
     @Operation(
         summary = "Update booking status",
-        description = "Updates the status of a booking (e.g., PENDING -> CONFIRMED -> COMPLETED or CANCELLED)"
+        description = "Moves a booking along its lifecycle (DRAFT -> PENDING -> SUBMITTED -> CONFIRMED; any non-cancelled booking may be CANCELLED). "
+            + "Pass the version from the last read to reject the update if the booking changed since."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Status updated successfully",
@@ -139,17 +339,17 @@ public class BookingController {
         @ApiResponse(responseCode = "400", description = "Invalid status", content = @Content),
         @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
         @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content),
-        @ApiResponse(responseCode = "404", description = "Booking not found", content = @Content)
+        @ApiResponse(responseCode = "404", description = "Booking not found", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Transition not allowed or booking modified concurrently", content = @Content)
     })
     @PutMapping("/{id}/status")
     public ResponseEntity<Booking> updateBookingStatus(
             @Parameter(description = "Booking UUID", required = true)
             @PathVariable UUID id,
-            @Parameter(description = "Status update request with 'status' field (PENDING, CONFIRMED, COMPLETED, CANCELLED)", required = true)
+            @Parameter(description = "Status update request with 'status' field (DRAFT, PENDING, SUBMITTED, CONFIRMED, CANCELLED) and optional expected 'version'", required = true)
             @RequestBody Map<String, String> request,
-            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+            @Parameter(hidden = true) SecurityContext context) {
         
-        SecurityContext context = JwtAuthenticationConverter.extractSecurityContext(jwt);
         log.info("Updating booking {} status by user: {}", id, context.getUserId());
         
         String statusStr = request.get("status");
@@ -158,7 +358,9 @@ public class BookingController {
         }
         
         BookingStatus status = BookingStatus.valueOf(statusStr.toUpperCase());
-        Booking updated = bookingService.updateBookingStatus(id, status, context);
+        String versionStr = request.get("version");
+        Long expectedVersion = versionStr != null ? Long.valueOf(versionStr) : null;
+        Booking updated = bookingService.updateBookingStatus(id, status, expectedVersion, context);
         
         return ResponseEntity.ok(updated);
     }
@@ -182,9 +384,8 @@ public class BookingController {
     public ResponseEntity<Void> deleteBooking(
             @Parameter(description = "Booking UUID", required = true)
             @PathVariable UUID id,
-            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
+            @Parameter(hidden = true) SecurityContext context) {
         
-        SecurityContext context = JwtAuthenticationConverter.extractSecurityContext(jwt);
         log.info("Deleting booking {} by user: {}", id, context.getUserId());
         
         bookingService.deleteBooking(id, context);
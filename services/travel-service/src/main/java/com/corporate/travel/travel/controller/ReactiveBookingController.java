@@ -0,0 +1,167 @@
+package com.corporate.travel.travel.controller;
+
+import com.corporate.travel.models.BookingStatus;
+import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.entity.Booking;
+import com.corporate.travel.travel.service.BookingService;
+import com.corporate.travel.travel.service.ReactiveBookingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reactive REST Controller for Booking reads
+ *
+ * Active when the service runs on WebFlux (the {@code reactive} profile) and
+ * serves the read endpoints of {@link BookingController} with the same paths,
+ * parameters and responses. Writes stay on the servlet deployment.
+ */
+@RestController
+@RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Bookings", description = "Travel booking management API")
+@SecurityRequirement(name = "bearerAuth")
+public class ReactiveBookingController {
+
+    private static final int MAX_VISIBLE_LIMIT = 500;
+
+    private final ReactiveBookingService bookingService;
+
+    /**
+     * Get one page of bookings for the current user
+     *
+     * GET /api/bookings?limit=20&cursor=...
+     */
+    @Operation(
+        summary = "Get bookings",
+        description = "Retrieves the authenticated user's bookings, newest first, with multi-tenant isolation. "
+            + "Results are keyset-paginated: pass the returned nextCursor to fetch the following page. "
+            + "Page size is capped at " + BookingService.MAX_PAGE_SIZE + ". "
+            + "Items are summaries without details unless view=full."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or filter", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content)
+    })
+    @GetMapping
+    public Mono<BookingPage<BookingListItem>> getUserBookings(
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + BookingService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Only bookings in this status")
+            @RequestParam(required = false) BookingStatus status,
+            @Parameter(description = "Only bookings starting on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @Parameter(description = "Only bookings starting on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @Parameter(description = "summary (default, without details) or full")
+            @RequestParam(defaultValue = "summary") String view,
+            @Parameter(hidden = true) SecurityContext context) {
+        log.debug("Fetching bookings for user: {}", context.getUserId());
+
+        BookingView bookingView;
+        try {
+            bookingView = BookingView.parse(view);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        BookingListRequest request = BookingListRequest.builder()
+            .cursor(cursor)
+            .limit(limit)
+            .status(status)
+            .startFrom(startFrom)
+            .startTo(startTo)
+            .view(bookingView)
+            .build();
+
+        return bookingService.getUserBookings(context, request);
+    }
+
+    /**
+     * Get every booking the caller may view in their tenant
+     *
+     * GET /api/bookings/visible
+     */
+    @Operation(
+        summary = "Get visible bookings",
+        description = "Retrieves all bookings in the tenant the caller may view (own, delegated, or tenant-wide for admins). Visibility is computed by OPA partial evaluation and applied as a database filter. "
+            + "Items are summaries without details unless view=full."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content)
+    })
+    @GetMapping("/visible")
+    public Flux<BookingListItem> getVisibleBookings(
+            @Parameter(description = "Maximum number of bookings (1-" + MAX_VISIBLE_LIMIT + ")")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "summary (default, without details) or full")
+            @RequestParam(defaultValue = "summary") String view,
+            @Parameter(hidden = true) SecurityContext context) {
+        log.debug("Fetching visible bookings for user: {}", context.getUserId());
+
+        if (limit < 1 || limit > MAX_VISIBLE_LIMIT) {
+            return Flux.error(new IllegalArgumentException("limit must be between 1 and " + MAX_VISIBLE_LIMIT));
+        }
+
+        BookingView bookingView;
+        try {
+            bookingView = BookingView.parse(view);
+        } catch (IllegalArgumentException e) {
+            return Flux.error(e);
+        }
+        return bookingService.getVisibleBookings(context, limit, bookingView);
+    }
+
+    /**
+     * Get a specific booking by ID
+     *
+     * GET /api/bookings/{id}
+     */
+    @Operation(
+        summary = "Get booking by ID",
+        description = "Retrieves a specific booking by its unique identifier. Authorization via OPA ensures proper access control."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Booking found",
+            content = @Content(schema = @Schema(implementation = Booking.class))),
+        @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Not authorized", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Booking not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public Mono<Booking> getBooking(
+            @Parameter(description = "Booking UUID", required = true)
+            @PathVariable UUID id,
+            @Parameter(hidden = true) SecurityContext context) {
+
+        log.debug("Fetching booking {} for user: {}", id, context.getUserId());
+
+        return bookingService.getBooking(id, context);
+    }
+}
@@ -0,0 +1,104 @@
+package com.corporate.travel.travel.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary
+ *
+ * The choice is made when a transaction takes its first connection, so this
+ * must sit behind a LazyConnectionDataSourceProxy: by then the transaction's
+ * read-only flag is set. Replicas take turns among those that are reachable,
+ * within {@code booking.replicas.max-lag}, and far enough along for the
+ * current user's last write ({@link ReadYourWrites}); if none is, the read
+ * runs on the primary.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagMillis;
+    private final long staleAfterNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<Route, Counter> routed = new EnumMap<>(Route.class);
+
+    ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWrites readYourWrites,
+                               ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        // Three missed checks and a replica's numbers are no longer trusted
+        this.staleAfterNanos = properties.getCheckInterval().multipliedBy(3).toNanos();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.name(), replica.dataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        for (Route route : Route.values()) {
+            routed.put(route, Counter.builder("booking.datasource.routed")
+                    .description("Connections handed out, by target and reason")
+                    .tag("target", route.target)
+                    .tag("reason", route.reason)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            routed.get(Route.NO_TRANSACTION).increment();
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.writing();
+            routed.get(Route.WRITE).increment();
+            return PRIMARY;
+        }
+
+        long requiredLsn = readYourWrites.requiredLsn();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        boolean withinLag = false;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.canServe(requiredLsn, maxLagMillis, staleAfterNanos)) {
+                routed.get(Route.REPLICA).increment();
+                return replica.name();
+            }
+            withinLag |= replica.canServe(ReadYourWrites.NO_REQUIREMENT, maxLagMillis, staleAfterNanos);
+        }
+        routed.get(withinLag ? Route.READ_YOUR_WRITES : Route.NO_REPLICA).increment();
+        return PRIMARY;
+    }
+
+    private enum Route {
+        REPLICA("replica", "read_only"),
+        WRITE(PRIMARY, "read_write"),
+        NO_TRANSACTION(PRIMARY, "no_transaction"),
+        READ_YOUR_WRITES(PRIMARY, "read_your_writes"),
+        NO_REPLICA(PRIMARY, "replica_lag");
+
+        private final String target;
+        private final String reason;
+
+        Route(String target, String reason) {
+            this.target = target;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.corporate.travel.travel.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Remembers, per user, the primary WAL position their last write committed at
+ *
+ * After a read-write transaction commits, the primary's current position is
+ * read (it is at or past the commit) and kept for
+ * {@code booking.replicas.read-your-writes-window}. Until then the user's
+ * reads only go to a replica that has replayed that far. In PIN mode, or when
+ * the position cannot be read, no replica qualifies and the reads stay on the
+ * primary for the window.
+ *
+ * The session is the authenticated principal of the calling thread; work
+ * without one (background jobs) only gets the max-lag bound.
+ */
+@Slf4j
+class ReadYourWrites {
+
+    static final long NO_REQUIREMENT = 0;
+    static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    private final ReplicaProperties.ReadYourWrites mode;
+    private final JdbcTemplate primary;
+    private final Cache<String, Long> lastWrites;
+
+    ReadYourWrites(DataSource primary, ReplicaProperties properties) {
+        this.mode = properties.getReadYourWrites();
+        this.primary = new JdbcTemplate(primary);
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Called when a read-write transaction takes its connection
+     */
+    void writing() {
+        if (mode == ReplicaProperties.ReadYourWrites.NONE || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String session = currentSession();
+        if (session == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.asMap().merge(session, commitPosition(), Math::max);
+            }
+        });
+    }
+
+    /**
+     * WAL position a replica must have replayed to serve the current user's reads
+     */
+    long requiredLsn() {
+        if (mode == ReplicaProperties.ReadYourWrites.NONE) {
+            return NO_REQUIREMENT;
+        }
+        String session = currentSession();
+        if (session == null) {
+            return NO_REQUIREMENT;
+        }
+        Long lsn = lastWrites.getIfPresent(session);
+        return lsn != null ? lsn : NO_REQUIREMENT;
+    }
+
+    private long commitPosition() {
+        if (mode == ReplicaProperties.ReadYourWrites.PIN) {
+            return PRIMARY_ONLY;
+        }
+        try {
+            Long lsn = primary.queryForObject(ReplicaLagMonitor.CURRENT_LSN, Long.class);
+            return lsn != null ? lsn : PRIMARY_ONLY;
+        } catch (DataAccessException e) {
+            log.debug("Could not read the commit WAL position, pinning reads to the primary: {}", e.getMessage());
+            return PRIMARY_ONLY;
+        }
+    }
+
+    private static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,66 @@
+package com.corporate.travel.travel.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * One read replica and what was last learned about it
+ *
+ * Written by the {@link ReplicaLagMonitor} thread, read on every routing decision.
+ */
+final class Replica {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean available;
+    private volatile long replayLsn;
+    private volatile long lagMillis = Long.MAX_VALUE;
+    private volatile long checkedAtNanos;
+
+    Replica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Whether a read needing requiredLsn may run here
+     *
+     * A check older than staleAfterNanos counts as a failed one, so a stuck
+     * monitor sends reads to the primary instead of trusting old numbers.
+     */
+    boolean canServe(long requiredLsn, long maxLagMillis, long staleAfterNanos) {
+        return available
+                && System.nanoTime() - checkedAtNanos <= staleAfterNanos
+                && lagMillis <= maxLagMillis
+                && replayLsn >= requiredLsn;
+    }
+
+    boolean isAvailable() {
+        return available;
+    }
+
+    long lagMillis() {
+        return lagMillis;
+    }
+
+    void checked(long replayLsn, long lagMillis) {
+        this.replayLsn = replayLsn;
+        this.lagMillis = lagMillis;
+        this.checkedAtNanos = System.nanoTime();
+        this.available = true;
+    }
+
+    void failed() {
+        this.available = false;
+        this.lagMillis = Long.MAX_VALUE;
+        this.checkedAtNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,156 @@
+package com.corporate.travel.travel.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Measures how far each replica is behind the primary, every {@code booking.replicas.check-interval}
+ *
+ * Each round reads the primary's current WAL position first, then each
+ * replica's replay position. A replica that has replayed up to the primary's
+ * position has no lag; otherwise its lag is the age of the last transaction
+ * it replayed. Comparing positions first keeps an idle primary (no new
+ * transactions, so an ever older replay timestamp) from looking like lag.
+ *
+ * A replica that cannot be reached, or is no longer in recovery (promoted),
+ * gets no reads until a later round succeeds.
+ */
+@Slf4j
+class ReplicaLagMonitor implements SmartLifecycle {
+
+    static final String CURRENT_LSN = "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint";
+
+    private static final String REPLAY_STATUS = """
+        SELECT pg_is_in_recovery() AS in_recovery,
+               pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint AS replay_lsn,
+               (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint AS replay_age_millis
+        """;
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final List<JdbcTemplate> probes;
+    private final ReplicaProperties properties;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    ReplicaLagMonitor(DataSource primary, List<Replica> replicas, ReplicaProperties properties,
+                      MeterRegistry meterRegistry) {
+        int timeoutSeconds = (int) Math.max(1, properties.getCheckInterval().toSeconds());
+        this.primary = new JdbcTemplate(primary);
+        this.primary.setQueryTimeout(timeoutSeconds);
+        this.replicas = replicas;
+        this.probes = replicas.stream().map(replica -> {
+            JdbcTemplate probe = new JdbcTemplate(replica.dataSource());
+            probe.setQueryTimeout(timeoutSeconds);
+            return probe;
+        }).toList();
+        this.properties = properties;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("booking.datasource.replica.lag", replica,
+                            r -> r.isAvailable() ? r.lagMillis() : Double.NaN)
+                    .description("How far the replica's replay is behind the primary")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("booking.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("1 while the replica answers lag checks as a standby")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "replica-lag-monitor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getCheckInterval().multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        replicas.forEach(Replica::failed);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            check();
+            try {
+                Thread.sleep(properties.getCheckInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    void check() {
+        Long primaryLsn;
+        try {
+            primaryLsn = primary.queryForObject(CURRENT_LSN, Long.class);
+        } catch (DataAccessException e) {
+            // Lag is then judged by replay age alone
+            log.debug("Could not read the primary WAL position: {}", e.getMessage());
+            primaryLsn = null;
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            check(replicas.get(i), probes.get(i), primaryLsn);
+        }
+    }
+
+    private void check(Replica replica, JdbcTemplate probe, Long primaryLsn) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            probe.query(REPLAY_STATUS, row -> {
+                if (!row.getBoolean("in_recovery")) {
+                    if (wasAvailable) {
+                        log.warn("Replica {} is no longer in recovery; sending its reads to the primary", replica.name());
+                    }
+                    replica.failed();
+                    return;
+                }
+                long replayLsn = row.getLong("replay_lsn");
+                long replayAge = row.getLong("replay_age_millis");
+                boolean noReplayYet = row.wasNull();
+                long lag;
+                if (primaryLsn != null && replayLsn >= primaryLsn) {
+                    lag = 0;
+                } else {
+                    lag = noReplayYet ? Long.MAX_VALUE : Math.max(0, replayAge);
+                }
+                replica.checked(replayLsn, lag);
+                if (!wasAvailable) {
+                    log.info("Replica {} available, lag {} ms", replica.name(), lag);
+                }
+            });
+        } catch (DataAccessException e) {
+            if (wasAvailable) {
+                log.warn("Replica {} unreachable; sending its reads to the primary: {}", replica.name(), e.getMessage());
+            }
+            replica.failed();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.corporate.travel.travel.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing configuration bound from the {@code booking.replicas.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.replicas")
+@Data
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions may run on the replicas; off sends everything to spring.datasource
+     */
+    private boolean enabled = false;
+
+    /**
+     * Streaming replicas of spring.datasource
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * A replica further behind the primary than this gets no reads until it catches up
+     */
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    /**
+     * How often each replica's replay position is compared with the primary's
+     */
+    private Duration checkInterval = Duration.ofMillis(500);
+
+    /**
+     * How a user's reads see their own recent writes
+     */
+    private ReadYourWrites readYourWrites = ReadYourWrites.LSN;
+
+    /**
+     * How long after a write a user's reads stay constrained; past it only max-lag applies
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    /**
+     * Connection pool size per replica
+     */
+    private int maximumPoolSize = 10;
+
+    @Data
+    public static class Node {
+
+        /**
+         * Label for logs and metrics; defaults to replica-N
+         */
+        private String name;
+
+        private String url;
+
+        /**
+         * Default to spring.datasource.username and password
+         */
+        private String username;
+
+        private String password;
+    }
+
+    public enum ReadYourWrites {
+        /** Read from a replica only once it has replayed the user's last commit */
+        LSN,
+        /** Read from the primary for the whole window */
+        PIN,
+        /** No session guarantee; max-lag still bounds staleness */
+        NONE
+    }
+}
@@ -0,0 +1,111 @@
+package com.corporate.travel.travel.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the JDBC DataSource into the primary (spring.datasource) and its read replicas
+ *
+ * Replaces Spring Boot's single DataSource when {@code booking.replicas.enabled}
+ * is set. JPA, JdbcTemplate and everything else keep injecting one DataSource;
+ * {@code @Transactional(readOnly = true)} work goes to a replica, the rest to
+ * the primary. Background jobs that run outside transactions (audit COPY,
+ * outbox relay, partition maintenance, the change listener) use the primary.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "booking.replicas", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    /**
+     * The primary pool, configured from spring.datasource and spring.datasource.hikari
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaPools replicaPools(ReplicaProperties properties, DataSourceProperties dataSourceProperties,
+                              MeterRegistry meterRegistry) {
+        if (properties.getNodes().isEmpty()) {
+            throw new IllegalStateException("booking.replicas.enabled is set but booking.replicas.nodes is empty");
+        }
+        List<Replica> replicas = new ArrayList<>(properties.getNodes().size());
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReplicaProperties.Node node = properties.getNodes().get(i);
+            String name = StringUtils.hasText(node.getName()) ? node.getName() : "replica-" + (i + 1);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword());
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // Start without the replica rather than fail: the monitor admits it once reachable
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setConnectionTimeout(Math.max(250, properties.getMaxLag().toMillis()));
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new Replica(name, dataSource));
+        }
+        log.info("Routing read-only transactions to replicas {} (max lag {}, read-your-writes {} for {})",
+                replicas.stream().map(Replica::name).toList(), properties.getMaxLag(),
+                properties.getReadYourWrites(), properties.getReadYourWritesWindow());
+        return new ReplicaPools(replicas);
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+                                        ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaPools.replicas(), properties, meterRegistry);
+    }
+
+    /**
+     * The DataSource the rest of the application sees
+     *
+     * The lazy proxy defers taking a physical connection until the first
+     * statement, when the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+                          ReplicaProperties properties, MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaPools.replicas(),
+                new ReadYourWrites(primaryDataSource, properties), properties, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * The replica connection pools, closed with the context
+     */
+    record ReplicaPools(List<Replica> replicas) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            replicas.forEach(replica -> replica.dataSource().close());
+        }
+    }
+}
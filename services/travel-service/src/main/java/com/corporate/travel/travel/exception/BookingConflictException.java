@@ -0,0 +1,26 @@
+package com.corporate.travel.travel.exception;
+
+import com.corporate.travel.models.BookingStatus;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a booking change conflicts with its current state:
+ * a transition the lifecycle does not allow, or a concurrent modification
+ */
+public class BookingConflictException extends RuntimeException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+
+    public static BookingConflictException illegalTransition(UUID id, BookingStatus from, BookingStatus to) {
+        return new BookingConflictException(
+            "Booking " + id + " cannot move from " + from + " to " + to + "; allowed: " + from.nextStatuses());
+    }
+
+    public static BookingConflictException concurrentModification(UUID id) {
+        return new BookingConflictException(
+            "Booking " + id + " was modified concurrently; reload it and retry");
+    }
+}
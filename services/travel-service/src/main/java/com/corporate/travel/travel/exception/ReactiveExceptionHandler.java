@@ -0,0 +1,44 @@
+package com.corporate.travel.travel.exception;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+
+/**
+ * Exception handler for the reactive (WebFlux) stack
+ * Produces the same Problem Details as {@link GlobalExceptionHandler}
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private final GlobalExceptionHandler problems = new GlobalExceptionHandler();
+
+    @ExceptionHandler(BookingNotFoundException.class)
+    public ProblemDetail handleBookingNotFound(BookingNotFoundException ex) {
+        return problems.handleBookingNotFound(ex);
+    }
+
+    @ExceptionHandler(BookingConflictException.class)
+    public ProblemDetail handleBookingConflict(BookingConflictException ex) {
+        return problems.handleBookingConflict(ex);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ProblemDetail handleAccessDenied(AccessDeniedException ex) {
+        return problems.handleAccessDenied(ex);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException ex) {
+        return problems.handleIllegalArgument(ex);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleGenericException(Exception ex) {
+        return problems.handleGenericException(ex);
+    }
+}
@@ -0,0 +1,22 @@
+package com.corporate.travel.travel.model.dto;
+
+import com.corporate.travel.models.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * What listings need from a booking, in any view: the OPA resource fields and the keyset position
+ */
+public interface BookingListItem {
+
+    UUID getId();
+
+    String getTenantId();
+
+    String getUserId();
+
+    BookingStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,46 @@
+package com.corporate.travel.travel.model.dto;
+
+import com.corporate.travel.models.BookingStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Page request for a user's bookings
+ */
+@Data
+@Builder
+public class BookingListRequest {
+
+    /**
+     * Continuation token from the previous page; null for the first page
+     */
+    private String cursor;
+
+    /**
+     * Requested page size; capped at the server maximum
+     */
+    private int limit;
+
+    /**
+     * Only bookings in this status
+     */
+    private BookingStatus status;
+
+    /**
+     * Only bookings starting on or after this date
+     */
+    private LocalDate startFrom;
+
+    /**
+     * Only bookings starting on or before this date
+     */
+    private LocalDate startTo;
+
+    /**
+     * Summary (default) or full bookings
+     */
+    @Builder.Default
+    private BookingView view = BookingView.SUMMARY;
+}
@@ -0,0 +1,25 @@
+package com.corporate.travel.travel.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing
+ */
+@Data
+@AllArgsConstructor
+public class BookingPage<T> {
+
+    private List<T> items;
+
+    /**
+     * Opaque token for the next page; null when this is the last page
+     */
+    private String nextCursor;
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.corporate.travel.travel.model.dto;
+
+import com.corporate.travel.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filters for a tenant-wide booking search; every filter is optional and they are AND-ed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSearchRequest {
+
+    /**
+     * Destination text, matched case-insensitively
+     */
+    private String destination;
+
+    /**
+     * How destination is matched: as a prefix (default) or anywhere in the name
+     */
+    @Builder.Default
+    private DestinationMatch destinationMatch = DestinationMatch.PREFIX;
+
+    /**
+     * Only bookings whose travel dates overlap [travelFrom, travelTo]
+     */
+    private LocalDate travelFrom;
+
+    private LocalDate travelTo;
+
+    /**
+     * Only bookings in one of these statuses
+     */
+    private Set<BookingStatus> statuses;
+
+    /**
+     * Only bookings of this type, e.g. HOTEL
+     */
+    private String bookingType;
+
+    /**
+     * Only bookings with a total amount in [minAmount, maxAmount]
+     */
+    private BigDecimal minAmount;
+
+    private BigDecimal maxAmount;
+
+    /**
+     * JSON document the booking's details must contain, e.g. {"confirmationCode": "ABC123"}
+     */
+    private Map<String, Object> details;
+
+    /**
+     * Continuation token from the previous page; null for the first page
+     */
+    private String cursor;
+
+    /**
+     * Requested page size; capped at the server maximum
+     */
+    @Builder.Default
+    private int limit = 20;
+
+    /**
+     * Summary (default) or full bookings
+     */
+    @Builder.Default
+    private BookingView view = BookingView.SUMMARY;
+
+    public enum DestinationMatch {
+        /** Destination starts with the text */
+        PREFIX,
+        /** Destination contains the text; needs at least 3 characters */
+        CONTAINS
+    }
+}
@@ -0,0 +1,29 @@
+package com.corporate.travel.travel.model.dto;
+
+import com.corporate.travel.models.BookingStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * List view of a booking, without the {@code details} JSONB and audit columns
+ *
+ * Selected column by column (never hydrated as a {@code Booking} entity), so
+ * listings neither read nor serialize the details blob.
+ */
+@Value
+public class BookingSummary implements BookingListItem {
+    UUID id;
+    String tenantId;
+    String userId;
+    String bookingType;
+    String destination;
+    LocalDate startDate;
+    LocalDate endDate;
+    BookingStatus status;
+    BigDecimal totalAmount;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.corporate.travel.travel.model.dto;
+
+/**
+ * How much of each booking a listing returns
+ */
+public enum BookingView {
+
+    /**
+     * {@link BookingSummary}: no details JSON (default)
+     */
+    SUMMARY,
+
+    /**
+     * Full {@code Booking}, including details
+     */
+    FULL;
+
+    /**
+     * @throws IllegalArgumentException for unknown values
+     */
+    public static BookingView parse(String value) {
+        return valueOf(value.toUpperCase());
+    }
+}
@@ -0,0 +1,49 @@
+package com.corporate.travel.travel.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk booking request, one item per submitted booking in request order
+ */
+@Data
+@AllArgsConstructor
+public class BulkBookingResult {
+
+    private int created;
+    private int rejected;
+    private List<Item> items;
+
+    public enum ItemStatus {
+        /** Inserted; id is set */
+        CREATED,
+        /** Failed validation */
+        INVALID,
+        /** The caller may not create bookings for this owner */
+        FORBIDDEN,
+        /** The database rejected the row */
+        FAILED
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * Position of the booking in the request
+         */
+        private int index;
+
+        private ItemStatus status;
+
+        private UUID id;
+
+        /**
+         * Reason for any status other than CREATED
+         */
+        private String error;
+    }
+}
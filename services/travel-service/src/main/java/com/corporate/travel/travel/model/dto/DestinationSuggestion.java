@@ -0,0 +1,7 @@
+package com.corporate.travel.travel.model.dto;
+
+/**
+ * A destination offered for type-ahead, with how many of the tenant's bookings use it
+ */
+public record DestinationSuggestion(String destination, int bookings) {
+}
@@ -1,6 +1,9 @@
 package com.corporate.travel.travel.model.entity;
 
 import com.corporate.travel.models.BookingStatus;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.id.TimeOrderedUuid;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -25,16 +28,23 @@ import java.util.UUID;
 @Table(name = "bookings", schema = "travel", indexes = {
     @Index(name = "idx_bookings_tenant", columnList = "tenant_id"),
     @Index(name = "idx_bookings_user", columnList = "user_id"),
-    @Index(name = "idx_bookings_tenant_user", columnList = "tenant_id,user_id")
+    @Index(name = "idx_bookings_tenant_user_created", columnList = "tenant_id,user_id,created_at DESC,id DESC"),
+    @Index(name = "idx_bookings_tenant_status_start", columnList = "tenant_id,status,start_date"),
+    @Index(name = "idx_bookings_tenant_type_start", columnList = "tenant_id,booking_type,start_date"),
+    @Index(name = "idx_bookings_tenant_start_end", columnList = "tenant_id,start_date,end_date"),
+    @Index(name = "idx_bookings_tenant_amount", columnList = "tenant_id,total_amount")
 })
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Booking {
+public class Booking implements BookingListItem {
     
+    /**
+     * Time-ordered (UUIDv7) so inserts append to the primary-key index
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
     
     /**
@@ -99,6 +109,15 @@ public class Booking {
     @Column(name = "details", columnDefinition = "jsonb")
     private String details;
     
+    /**
+     * Optimistic-lock version, incremented by every status transition
+     * Returned to clients; ignored on input
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     /**
      * Timestamp when booking was created
      */
@@ -0,0 +1,70 @@
+package com.corporate.travel.travel.model.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7)
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit counter, variant,
+ * 62 random bits. The counter makes IDs from one JVM strictly increasing even
+ * within the same millisecond, so new rows always land on the right-hand edge
+ * of the primary-key index instead of splitting pages all over it.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private static long lastMillis = -1;
+    private static int counter;
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7.class) {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                if (counter == MAX_COUNTER) {
+                    // Counter exhausted: borrow the next millisecond
+                    millis++;
+                    counter = RANDOM.nextInt(MAX_COUNTER / 2);
+                } else {
+                    counter++;
+                }
+            } else {
+                // Random start leaves headroom while keeping IDs hard to guess
+                counter = RANDOM.nextInt(MAX_COUNTER / 2);
+            }
+            lastMillis = millis;
+            sequence = counter;
+        }
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Creation time encoded in a version 7 UUID
+     *
+     * @throws IllegalArgumentException if the UUID is not version 7
+     */
+    public static Instant timestampOf(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + id);
+        }
+        return Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Smallest version 7 UUID for the given instant, for range scans by ID
+     */
+    public static UUID lowerBound(Instant instant) {
+        return new UUID((instant.toEpochMilli() << 16) | 0x7000L, 0x8000000000000000L);
+    }
+}
@@ -0,0 +1,27 @@
+package com.corporate.travel.travel.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A booking change as published to downstream consumers
+ *
+ * @param sequence   outbox row id; increases per booking in commit order
+ * @param payload    the booking as JSON after the change ({@code id} and {@code tenantId} only for deletes)
+ */
+public record BookingChangeEvent(
+        long sequence,
+        Type type,
+        UUID bookingId,
+        String tenantId,
+        LocalDateTime occurredAt,
+        @JsonRawValue String payload) {
+
+    public enum Type {
+        BOOKING_CREATED,
+        BOOKING_STATUS_CHANGED,
+        BOOKING_DELETED
+    }
+}
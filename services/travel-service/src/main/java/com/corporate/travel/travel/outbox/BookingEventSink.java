@@ -0,0 +1,18 @@
+package com.corporate.travel.travel.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed booking change events (a message broker in production)
+ *
+ * Delivery is at-least-once: a batch is removed from the outbox only after
+ * {@link #publish} returns, and is offered again if it throws. Events of one
+ * booking arrive in sequence order; events of different bookings may interleave.
+ */
+public interface BookingEventSink {
+
+    /**
+     * Publish a batch, ordered by sequence; throw to have it retried
+     */
+    void publish(List<BookingChangeEvent> events) throws Exception;
+}
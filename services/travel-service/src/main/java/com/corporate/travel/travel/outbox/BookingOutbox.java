@@ -0,0 +1,81 @@
+package com.corporate.travel.travel.outbox;
+
+import com.corporate.travel.travel.model.entity.Booking;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records booking changes in {@code travel.booking_outbox}
+ *
+ * Must be called inside the transaction that changes the booking: the event
+ * commits or rolls back with the change, so consumers never see a change that
+ * did not happen nor miss one that did. {@link BookingOutboxRelay} publishes it.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BookingOutbox {
+
+    private static final String INSERT_SQL = "INSERT INTO travel.booking_outbox "
+            + "(booking_id, tenant_id, event_type, payload) VALUES (?, ?, ?, CAST(? AS jsonb))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public BookingOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void created(Booking booking) {
+        append(BookingChangeEvent.Type.BOOKING_CREATED, booking, toJson(booking));
+    }
+
+    /**
+     * One JDBC batch for bookings created in the same transaction
+     */
+    public void created(List<Booking> bookings) {
+        requireTransaction();
+        List<Object[]> rows = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            rows.add(new Object[] {booking.getId(), booking.getTenantId(),
+                    BookingChangeEvent.Type.BOOKING_CREATED.name(), toJson(booking)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    public void statusChanged(Booking booking) {
+        append(BookingChangeEvent.Type.BOOKING_STATUS_CHANGED, booking, toJson(booking));
+    }
+
+    public void deleted(Booking booking) {
+        append(BookingChangeEvent.Type.BOOKING_DELETED, booking,
+                toJson(Map.of("id", booking.getId(), "tenantId", booking.getTenantId())));
+    }
+
+    private void append(BookingChangeEvent.Type type, Booking booking, String payload) {
+        requireTransaction();
+        jdbcTemplate.update(INSERT_SQL, booking.getId(), booking.getTenantId(), type.name(), payload);
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Booking outbox events must be written in the booking's transaction");
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize booking change event", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.corporate.travel.travel.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves events from {@code travel.booking_outbox} to the {@link BookingEventSink}
+ *
+ * Each round claims up to {@code booking.outbox.batch-size} bookings in one
+ * transaction, publishes all their pending events in sequence order and deletes
+ * them. Only the oldest event of a booking can be claimed, with
+ * {@code FOR UPDATE SKIP LOCKED}: relays on other replicas skip bookings that are
+ * in flight instead of waiting, and a booking's later events stay behind its
+ * claimed head until it is published, which keeps them in order.
+ *
+ * The relay reads only the outbox, never the booking tables.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "booking.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BookingOutboxRelay implements SmartLifecycle {
+
+    private static final String CLAIM_SQL = """
+            WITH heads AS (
+                SELECT o.booking_id
+                FROM travel.booking_outbox o
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM travel.booking_outbox p
+                    WHERE p.booking_id = o.booking_id AND p.id < o.id)
+                ORDER BY o.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            SELECT o.id, o.event_type, o.booking_id, o.tenant_id, o.created_at, o.payload::text AS payload,
+                   (EXTRACT(EPOCH FROM LOCALTIMESTAMP - o.created_at) * 1000)::bigint AS age_millis
+            FROM travel.booking_outbox o
+            JOIN heads h ON h.booking_id = o.booking_id
+            ORDER BY o.id
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM travel.booking_outbox WHERE id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final BookingEventSink sink;
+    private final OutboxProperties properties;
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public BookingOutboxRelay(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              BookingEventSink sink,
+                              OutboxProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.properties = properties;
+        this.relayed = Counter.builder("booking.outbox.relayed")
+                .description("Booking change events published to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("booking.outbox.failures")
+                .description("Relay rounds rolled back because the sink or database failed")
+                .register(meterRegistry);
+        this.lag = Timer.builder("booking.outbox.lag")
+                .description("Time from a booking change being written to its event being published")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "booking-outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getRetryDelay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        log.info("Relaying booking outbox in batches of {}", properties.getBatchSize());
+        while (running) {
+            try {
+                int relayedBookings = relayBatch();
+                if (relayedBookings < properties.getBatchSize()) {
+                    // Drained; a full batch means more is waiting
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                if (running) {
+                    log.warn("Booking outbox relay failed, retrying in {}: {}",
+                            properties.getRetryDelay(), e.getMessage());
+                }
+                pause();
+            }
+        }
+    }
+
+    /**
+     * @return bookings claimed in this round
+     */
+    int relayBatch() {
+        Integer claimed = transaction.execute(status -> {
+            List<Long> ages = new ArrayList<>();
+            List<BookingChangeEvent> events = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> {
+                ages.add(rs.getLong("age_millis"));
+                return new BookingChangeEvent(
+                        rs.getLong("id"),
+                        BookingChangeEvent.Type.valueOf(rs.getString("event_type")),
+                        rs.getObject("booking_id", UUID.class),
+                        rs.getString("tenant_id"),
+                        rs.getObject("created_at", LocalDateTime.class),
+                        rs.getString("payload"));
+            }, properties.getBatchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(events);
+            } catch (Exception e) {
+                throw new IllegalStateException("Booking event sink failed: " + e.getMessage(), e);
+            }
+            Long[] ids = events.stream().map(BookingChangeEvent::sequence).toArray(Long[]::new);
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(DELETE_SQL);
+                Array array = connection.createArrayOf("bigint", ids);
+                statement.setArray(1, array);
+                return statement;
+            });
+
+            // Measured on the database clock, like created_at
+            ages.forEach(age -> lag.record(Duration.ofMillis(Math.max(0, age))));
+            relayed.increment(events.size());
+            return (int) events.stream().map(BookingChangeEvent::bookingId).distinct().count();
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getRetryDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.corporate.travel.travel.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a local file, one JSON object per line
+ *
+ * Stand-in for a broker: a consumer can tail the file. The batch is flushed
+ * before {@link #publish} returns, so the relay only deletes what is on disk.
+ */
+@Slf4j
+public class FileBookingEventSink implements BookingEventSink, DisposableBean {
+
+    private final ObjectWriter writer;
+    private final BufferedWriter out;
+
+    public FileBookingEventSink(Path file, ObjectMapper objectMapper) throws IOException {
+        this.writer = objectMapper.writer();
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        log.info("Publishing booking change events to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publish(List<BookingChangeEvent> events) throws IOException {
+        for (BookingChangeEvent event : events) {
+            out.write(writer.writeValueAsString(event));
+            out.newLine();
+        }
+        out.flush();
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,39 @@
+package com.corporate.travel.travel.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent events in memory, for tests and local runs
+ */
+public class InMemoryBookingEventSink implements BookingEventSink {
+
+    private final int capacity;
+    private final Deque<BookingChangeEvent> events = new ArrayDeque<>();
+
+    public InMemoryBookingEventSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<BookingChangeEvent> batch) {
+        for (BookingChangeEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * Published events, oldest first
+     */
+    public synchronized List<BookingChangeEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
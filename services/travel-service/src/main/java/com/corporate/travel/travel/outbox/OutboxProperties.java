@@ -0,0 +1,54 @@
+package com.corporate.travel.travel.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Booking outbox configuration bound from the {@code booking.outbox.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.outbox")
+@Data
+public class OutboxProperties {
+
+    /**
+     * Whether this replica runs a relay; writes to the outbox always happen
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Upper bound on bookings claimed per relay transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Wait between polls while the outbox is empty
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Wait before a batch is offered again after the sink failed
+     */
+    private Duration retryDelay = Duration.ofSeconds(5);
+
+    /**
+     * file = JSON lines at {@link #file}, memory = in-process (tests)
+     */
+    private Sink sink = Sink.FILE;
+
+    private Path file = Path.of(System.getProperty("java.io.tmpdir"), "booking-events.jsonl");
+
+    /**
+     * Events kept by the memory sink
+     */
+    private int memoryCapacity = 10_000;
+
+    public enum Sink {
+        FILE,
+        MEMORY
+    }
+}
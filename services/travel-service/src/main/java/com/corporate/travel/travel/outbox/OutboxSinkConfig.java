@@ -0,0 +1,34 @@
+package com.corporate.travel.travel.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Stand-in sinks for the booking outbox relay; a broker-backed
+ * {@link BookingEventSink} bean replaces them
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class OutboxSinkConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(BookingEventSink.class)
+    @ConditionalOnProperty(prefix = "booking.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+    public FileBookingEventSink fileBookingEventSink(OutboxProperties properties, ObjectMapper objectMapper)
+            throws IOException {
+        return new FileBookingEventSink(properties.getFile(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BookingEventSink.class)
+    @ConditionalOnProperty(prefix = "booking.outbox", name = "sink", havingValue = "memory")
+    public InMemoryBookingEventSink inMemoryBookingEventSink(OutboxProperties properties) {
+        return new InMemoryBookingEventSink(properties.getMemoryCapacity());
+    }
+}
@@ -0,0 +1,214 @@
+package com.corporate.travel.travel.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Creates upcoming monthly partitions of travel.bookings and archives old ones
+ *
+ * Archival moves every partition older than {@code retention-months} out of the
+ * table: it is detached concurrently (readers and writers are not blocked),
+ * exported with {@code COPY ... TO STDOUT} into a gzipped CSV file, and dropped
+ * once the file is complete. {@code scripts/restore-booking-partition.sh}
+ * attaches such a file again; restored partitions are not archived.
+ *
+ * Each run holds a Postgres advisory lock, so one replica does the work. A run
+ * interrupted after the detach resumes with the detached table next time.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "booking.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BookingPartitionManager {
+
+    static final String RESTORED_COMMENT = "restored from archive";
+
+    private static final long ADVISORY_LOCK_KEY = 0x0B00C1A9L;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'bookings_y'uuuu'm'MM");
+
+    /**
+     * Monthly partitions of travel.bookings, attached or left detached by an interrupted run
+     */
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname,
+                   i.inhrelid IS NOT NULL AS attached,
+                   COALESCE(i.inhdetachpending, false) AS detach_pending,
+                   obj_description(c.oid, 'pg_class') AS comment
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            LEFT JOIN pg_inherits i ON i.inhrelid = c.oid AND i.inhparent = 'travel.bookings'::regclass
+            WHERE n.nspname = 'travel' AND c.relkind = 'r' AND c.relname ~ '^bookings_y[0-9]{4}m[0-9]{2}$'
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingPartitionProperties properties;
+    private final Counter archivedPartitions;
+    private final Counter archivedRows;
+
+    public BookingPartitionManager(JdbcTemplate jdbcTemplate,
+                                   BookingPartitionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        if (properties.getArchive().isEnabled() && properties.getArchive().getDirectory() == null) {
+            throw new IllegalStateException(
+                    "booking.partitions.archive.enabled is set but booking.partitions.archive.directory is empty");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.archivedPartitions = Counter.builder("booking.partitions.archived")
+                .description("Booking partitions exported and dropped")
+                .register(meterRegistry);
+        this.archivedRows = Counter.builder("booking.partitions.archived.rows")
+                .description("Bookings exported by partition archival")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Make sure the current and next months can take inserts before traffic arrives
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run(false);
+    }
+
+    @Scheduled(cron = "${booking.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        run(properties.getArchive().isEnabled());
+    }
+
+    private void run(boolean archive) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.debug("Booking partition maintenance is running on another replica");
+                    return null;
+                }
+                try {
+                    createAhead(connection);
+                    if (archive) {
+                        archiveExpired(connection);
+                    }
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Booking partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createAhead(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT travel.create_booking_partitions(?)")) {
+            statement.setInt(1, properties.getMonthsAhead());
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                int created = rs.getInt(1);
+                if (created > 0) {
+                    log.info("Created {} booking partitions", created);
+                }
+            }
+        }
+    }
+
+    private void archiveExpired(Connection connection) throws SQLException {
+        YearMonth oldestKept = YearMonth.now().minusMonths(properties.getArchive().getRetentionMonths());
+        List<Partition> expired = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PARTITIONS_SQL)) {
+            while (rs.next()) {
+                Partition partition = new Partition(rs.getString("relname"), rs.getBoolean("attached"),
+                        rs.getBoolean("detach_pending"));
+                if (RESTORED_COMMENT.equals(rs.getString("comment"))) {
+                    continue;
+                }
+                if (YearMonth.parse(partition.name(), PARTITION_NAME).isBefore(oldestKept)) {
+                    expired.add(partition);
+                }
+            }
+        }
+        for (Partition partition : expired) {
+            archive(connection, partition);
+        }
+    }
+
+    private void archive(Connection connection, Partition partition) throws SQLException {
+        String table = "travel." + partition.name();
+        try (Statement statement = connection.createStatement()) {
+            if (partition.detachPending()) {
+                statement.execute("ALTER TABLE travel.bookings DETACH PARTITION " + table + " FINALIZE");
+            } else if (partition.attached()) {
+                // Not inside a transaction: CONCURRENTLY needs autocommit
+                statement.execute("ALTER TABLE travel.bookings DETACH PARTITION " + table + " CONCURRENTLY");
+            }
+        }
+
+        Path directory = properties.getArchive().getDirectory();
+        Path file = directory.resolve(partition.name() + ".csv.gz");
+        Path partial = directory.resolve(partition.name() + ".csv.gz.partial");
+        long rows;
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partial))) {
+                rows = connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyOut("COPY " + table + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The detached table stays; the next run retries the export
+            throw new SQLException("Cannot export " + table + " to " + file + ": " + e.getMessage(), e);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        archivedPartitions.increment();
+        archivedRows.increment(rows);
+        log.info("Archived {} ({} bookings) to {}", table, rows, file);
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private record Partition(String name, boolean attached, boolean detachPending) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.corporate.travel.travel.partition;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Partition maintenance of travel.bookings bound from the {@code booking.partitions.*} properties
+ */
+@Component
+@ConfigurationProperties(prefix = "booking.partitions")
+@Data
+public class BookingPartitionProperties {
+
+    /**
+     * Whether this service creates and archives partitions
+     */
+    private boolean enabled = true;
+
+    /**
+     * When maintenance runs (also once at startup, without archival)
+     */
+    private String cron = "0 15 3 * * *";
+
+    /**
+     * Monthly partitions kept ready beyond the current month
+     */
+    private int monthsAhead = 3;
+
+    private Archive archive = new Archive();
+
+    @Data
+    public static class Archive {
+
+        /**
+         * Whether partitions older than the retention are detached, exported and dropped
+         */
+        private boolean enabled = false;
+
+        /**
+         * Full months kept in travel.bookings before the current one
+         */
+        private int retentionMonths = 24;
+
+        /**
+         * Where exported partitions are written, as {@code bookings_yYYYYmMM.csv.gz}; required
+         * when archival is enabled and must be durable storage, as the partition is dropped
+         * once its file is written
+         */
+        private Path directory;
+    }
+}
@@ -1,20 +1,37 @@
 package com.corporate.travel.travel.repository;
 
+import com.corporate.travel.models.BookingStatus;
 import com.corporate.travel.travel.model.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Booking entity
  * 
- * All queries must be tenant-aware to enforce multi-tenant isolation
+ * All queries must be tenant-aware to enforce multi-tenant isolation.
+ * Specification queries must include {@link BookingSpecifications#inTenant}.
+ *
+ * travel.bookings is partitioned by month of created_at. Queries on a single
+ * booking also constrain created_at (see {@link CreationWindow}) so that they
+ * touch one partition however much history is kept; listings read one
+ * {@link CreationMonth} at a time.
  */
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, JpaSpecificationExecutor<Booking>,
+        BookingSummaryQueries {
     
     /**
      * Find all bookings for a specific tenant and user
@@ -28,9 +45,85 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
      */
     List<Booking> findByTenantId(String tenantId);
     
+    /**
+     * Stream all bookings for a specific tenant from a server-side cursor
+     * Used for exports; must be consumed inside a read-only transaction and
+     * closed, and callers should detach each entity once written
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Booking b where b.tenantId = :tenantId order by b.createdAt, b.id")
+    Stream<Booking> streamByTenantId(@Param("tenantId") String tenantId);
+
     /**
      * Find a booking by ID and tenant ID
      * Critical for tenant isolation - never fetch without tenant check
      */
-    Optional<Booking> findByIdAndTenantId(UUID id, String tenantId);
+    default Optional<Booking> findByIdAndTenantId(UUID id, String tenantId) {
+        return CreationWindow.of(id)
+            .map(window -> findByIdAndTenantIdAndCreatedAtBetween(id, tenantId, window.from(), window.to()))
+            .orElseGet(() -> findInAnyPartition(id, tenantId));
+    }
+
+    /**
+     * Partition-pruned lookup; use {@link #findByIdAndTenantId}
+     */
+    Optional<Booking> findByIdAndTenantIdAndCreatedAtBetween(UUID id, String tenantId,
+                                                             LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Lookup without a created_at bound, for IDs that are not time-ordered
+     */
+    @Query("select b from Booking b where b.id = :id and b.tenantId = :tenantId")
+    Optional<Booking> findInAnyPartition(@Param("id") UUID id, @Param("tenantId") String tenantId);
+
+    /**
+     * Start of the oldest attached monthly partition, where newest-first listings stop
+     */
+    default Optional<LocalDateTime> findOldestPartitionStart() {
+        return findOldestPartitionName().map(CreationMonth::startOfPartition);
+    }
+
+    /**
+     * Catalog lookup; use {@link #findOldestPartitionStart}
+     */
+    @Query(value = "SELECT min(c.relname) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+        + "WHERE i.inhparent = CAST('travel.bookings' AS regclass)", nativeQuery = true)
+    Optional<String> findOldestPartitionName();
+
+    /**
+     * Compare-and-set status transition in a single UPDATE
+     *
+     * Applies only if the booking still has the expected status and version,
+     * so concurrent writers cannot overwrite each other. createdAt (from the
+     * loaded booking) pins the UPDATE to the booking's partition.
+     *
+     * @return 1 if the transition was applied, 0 if the row changed or is gone
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking b set b.status = :next, b.version = b.version + 1, "
+        + "b.updatedAt = :updatedAt, b.updatedBy = :updatedBy "
+        + "where b.id = :id and b.tenantId = :tenantId and b.createdAt = :createdAt "
+        + "and b.status = :expected and b.version = :version")
+    int transitionStatus(@Param("id") UUID id,
+                         @Param("tenantId") String tenantId,
+                         @Param("createdAt") LocalDateTime createdAt,
+                         @Param("expected") BookingStatus expected,
+                         @Param("version") long version,
+                         @Param("next") BookingStatus next,
+                         @Param("updatedAt") LocalDateTime updatedAt,
+                         @Param("updatedBy") String updatedBy);
+
+    /**
+     * Delete a loaded booking within its partition
+     *
+     * @return 1 if deleted, 0 if it was already gone
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Booking b where b.id = :id and b.tenantId = :tenantId and b.createdAt = :createdAt")
+    int deleteInPartition(@Param("id") UUID id,
+                          @Param("tenantId") String tenantId,
+                          @Param("createdAt") LocalDateTime createdAt);
 }
@@ -0,0 +1,221 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.models.BookingStatus;
+import com.corporate.travel.security.ResidualPolicy;
+import com.corporate.travel.travel.model.dto.BookingCursor;
+import com.corporate.travel.travel.model.entity.Booking;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Specifications for Booking queries
+ */
+@Slf4j
+public final class BookingSpecifications {
+
+    private BookingSpecifications() {
+    }
+
+    /**
+     * Tenant isolation - every Specification query must include this
+     */
+    public static Specification<Booking> inTenant(String tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("tenantId"), tenantId);
+    }
+
+    public static Specification<Booking> ownedBy(String userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    public static Specification<Booking> hasStatus(BookingStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Booking> startsOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Booking> startsOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Booking> hasStatusIn(Collection<BookingStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Booking> hasType(String bookingType) {
+        return (root, query, cb) -> cb.equal(root.get("bookingType"), bookingType);
+    }
+
+    /**
+     * Case-insensitive destination match on {@code lower(destination)}
+     *
+     * Both forms are LIKE patterns, which the trigram index
+     * idx_bookings_tenant_destination_trgm serves; a prefix needs no minimum
+     * length, a substring needs at least 3 characters to yield a trigram.
+     */
+    public static Specification<Booking> destinationStartsWith(String text) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("destination")), escapeLike(text) + "%", '\\');
+    }
+
+    public static Specification<Booking> destinationContains(String text) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("destination")), "%" + escapeLike(text) + "%", '\\');
+    }
+
+    /**
+     * Travel dates overlapping [from, to]; either bound may be null for an open range
+     */
+    public static Specification<Booking> travelOverlaps(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (to != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), to));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), from));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Total amount in [min, max]; either bound may be null
+     */
+    public static Specification<Booking> amountBetween(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> {
+            Path<BigDecimal> amount = root.get("totalAmount");
+            if (min != null && max != null) {
+                return cb.between(amount, min, max);
+            }
+            return min != null ? cb.greaterThanOrEqualTo(amount, min) : cb.lessThanOrEqualTo(amount, max);
+        };
+    }
+
+    /**
+     * Details containing a JSON document ({@code details @> json}), served by idx_bookings_details
+     *
+     * The document is a bind parameter ({@link HibernateCriteriaBuilder#value}), not a
+     * literal, so every filter shares one statement and the input never becomes SQL text.
+     */
+    public static Specification<Booking> detailsContain(String json) {
+        return (root, query, cb) -> cb.isTrue(cb.function(JsonbFunctionContributor.JSONB_CONTAINS, Boolean.class,
+            root.get("details"), ((HibernateCriteriaBuilder) cb).value(json)));
+    }
+
+    /**
+     * Rows after a keyset position in (created_at DESC, id DESC) order
+     *
+     * The redundant {@code created_at <= ?} bound lets Postgres start the index
+     * scan at the cursor, so every page costs the same as the first.
+     */
+    public static Specification<Booking> after(BookingCursor cursor) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            return cb.and(
+                cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        };
+    }
+
+    /**
+     * Rows created in a month, so the planner reads only that month's partition
+     */
+    public static Specification<Booking> createdIn(CreationMonth month) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Predicate from = cb.greaterThanOrEqualTo(createdAt, month.from());
+            return month.to() == null ? from : cb.and(from, cb.lessThan(createdAt, month.to()));
+        };
+    }
+
+    /**
+     * Rows allowed by an OPA residual policy
+     *
+     * Each residual query becomes a conjunction and the queries are OR-ed.
+     * A query with a condition that has no column on travel.bookings (e.g.
+     * manager_chain, which is not stored with the booking) is discarded,
+     * so untranslatable rules hide rows rather than expose them.
+     */
+    public static Specification<Booking> allowedBy(ResidualPolicy residual) {
+        return (root, query, cb) -> {
+            List<Predicate> disjuncts = new ArrayList<>();
+            for (List<ResidualPolicy.Condition> conditions : residual.queries()) {
+                Predicate conjunction = toConjunction(root, cb, conditions);
+                if (conjunction != null) {
+                    disjuncts.add(conjunction);
+                }
+            }
+            return disjuncts.isEmpty()
+                ? cb.disjunction()
+                : cb.or(disjuncts.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Predicate toConjunction(Root<Booking> root, CriteriaBuilder cb,
+                                           List<ResidualPolicy.Condition> conditions) {
+        List<Predicate> predicates = new ArrayList<>(conditions.size());
+        for (ResidualPolicy.Condition condition : conditions) {
+            Predicate predicate = toPredicate(root, cb, condition);
+            if (predicate == null) {
+                log.debug("Discarding residual query with untranslatable condition: {}", condition);
+                return null;
+            }
+            predicates.add(predicate);
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private static Predicate toPredicate(Root<Booking> root, CriteriaBuilder cb, ResidualPolicy.Condition condition) {
+        if (condition.operator() != ResidualPolicy.Operator.EQ) {
+            return null;
+        }
+        Object value = condition.value();
+        return switch (condition.field()) {
+            case "type" -> "booking".equals(value) ? cb.conjunction() : cb.disjunction();
+            case "tenant_id" -> equal(cb, root.get("tenantId"), value);
+            case "user_id" -> equal(cb, root.get("userId"), value);
+            case "id" -> {
+                try {
+                    yield value == null ? cb.disjunction() : cb.equal(root.get("id"), UUID.fromString(value.toString()));
+                } catch (IllegalArgumentException e) {
+                    yield cb.disjunction();
+                }
+            }
+            case "status" -> {
+                try {
+                    yield value == null ? cb.disjunction() : cb.equal(root.get("status"), BookingStatus.valueOf(value.toString()));
+                } catch (IllegalArgumentException e) {
+                    yield cb.disjunction();
+                }
+            }
+            default -> null;
+        };
+    }
+
+    private static Predicate equal(CriteriaBuilder cb, Path<Object> path, Object value) {
+        return value == null ? cb.isNull(path) : cb.equal(path, value);
+    }
+
+    private static String escapeLike(String text) {
+        return text.toLowerCase()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
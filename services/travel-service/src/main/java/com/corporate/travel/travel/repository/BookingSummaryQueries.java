@@ -0,0 +1,20 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.travel.model.dto.BookingSummary;
+import com.corporate.travel.travel.model.entity.Booking;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Summary projections of {@link BookingRepository} queries
+ */
+public interface BookingSummaryQueries {
+
+    /**
+     * Like {@code findBy(spec, q -> q.sortBy(sort).limit(limit).all())}, but selects only
+     * the {@link BookingSummary} columns
+     */
+    List<BookingSummary> findSummaries(Specification<Booking> spec, Sort sort, int limit);
+}
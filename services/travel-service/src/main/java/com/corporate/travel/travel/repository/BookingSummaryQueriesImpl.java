@@ -0,0 +1,52 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.travel.model.dto.BookingSummary;
+import com.corporate.travel.travel.model.entity.Booking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria constructor query: one {@link BookingSummary} per row, no entity in the persistence context
+ */
+class BookingSummaryQueriesImpl implements BookingSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingSummary> findSummaries(Specification<Booking> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingSummary> query = cb.createQuery(BookingSummary.class);
+        Root<Booking> root = query.from(Booking.class);
+        query.select(cb.construct(BookingSummary.class,
+                root.get("id"),
+                root.get("tenantId"),
+                root.get("userId"),
+                root.get("bookingType"),
+                root.get("destination"),
+                root.get("startDate"),
+                root.get("endDate"),
+                root.get("status"),
+                root.get("totalAmount"),
+                root.get("createdAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,38 @@
+package com.corporate.travel.travel.repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Month of {@code created_at}, the range of one monthly partition of travel.bookings
+ *
+ * Newest-first listings read one month at a time, starting with the month of the
+ * cursor (or the current month), so a page that fills from recent bookings reads
+ * one partition instead of probing every partition's index.
+ *
+ * @param from inclusive
+ * @param to   exclusive; null for the month a scan starts at, which also covers later rows
+ */
+public record CreationMonth(LocalDateTime from, LocalDateTime to) {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'bookings_y'uuuu'm'MM");
+
+    /**
+     * Month containing time, open-ended so rows stamped after it are not skipped
+     */
+    public static CreationMonth startingAt(LocalDateTime time) {
+        return new CreationMonth(YearMonth.from(time).atDay(1).atStartOfDay(), null);
+    }
+
+    /**
+     * Start of the month a partition named like {@code bookings_y2025m01} covers
+     */
+    public static LocalDateTime startOfPartition(String partitionName) {
+        return YearMonth.parse(partitionName, PARTITION_NAME).atDay(1).atStartOfDay();
+    }
+
+    public CreationMonth previous() {
+        return new CreationMonth(from.minusMonths(1), from);
+    }
+}
@@ -0,0 +1,46 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.travel.model.id.UuidV7;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Range of {@code created_at} a booking can have, derived from its time-ordered ID
+ *
+ * travel.bookings is partitioned by created_at, so a lookup by ID alone probes
+ * every partition. The ID is generated on persist and created_at is stamped on
+ * flush, both from the JVM clock, so created_at lies just after the ID's
+ * timestamp; adding this range to the query lets the planner prune to one
+ * monthly partition (two at a month boundary).
+ *
+ * @param from inclusive
+ * @param to   inclusive
+ */
+public record CreationWindow(LocalDateTime from, LocalDateTime to) {
+
+    /**
+     * Tolerates the ID counter borrowing future milliseconds and clock adjustments
+     */
+    private static final Duration BEFORE_ID = Duration.ofMinutes(5);
+
+    /**
+     * Longest a booking may stay unflushed after its ID was generated
+     */
+    private static final Duration AFTER_ID = Duration.ofDays(1);
+
+    /**
+     * Empty for IDs that are not version 7 (rows inserted by SQL scripts); those are looked up unpruned
+     */
+    public static Optional<CreationWindow> of(UUID id) {
+        if (id.version() != 7) {
+            return Optional.empty();
+        }
+        // created_at is a local timestamp, written with the JVM's zone
+        LocalDateTime generated = LocalDateTime.ofInstant(UuidV7.timestampOf(id), ZoneId.systemDefault());
+        return Optional.of(new CreationWindow(generated.minus(BEFORE_ID), generated.plus(AFTER_ID)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.corporate.travel.travel.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Makes the Postgres JSONB containment operator available to Criteria queries
+ *
+ * {@code jsonb_contains(details, json)} renders as {@code details @> cast(json as jsonb)},
+ * the operator form, which a GIN {@code jsonb_path_ops} index can serve (the
+ * built-in function of the same name cannot use the index).
+ *
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+
+    public static final String JSONB_CONTAINS = "jsonb_contains";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry()
+            .registerPattern(JSONB_CONTAINS, "(?1 @> cast(?2 as jsonb))", booleanType);
+    }
+}
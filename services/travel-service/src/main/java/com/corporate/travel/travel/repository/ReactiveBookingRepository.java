@@ -0,0 +1,256 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.models.BookingStatus;
+import com.corporate.travel.security.ResidualPolicy;
+import com.corporate.travel.travel.model.dto.BookingCursor;
+import com.corporate.travel.travel.model.dto.BookingSummary;
+import com.corporate.travel.travel.model.entity.Booking;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Non-blocking (R2DBC) reads of travel.bookings for the reactive stack
+ *
+ * Mirrors the queries {@link BookingRepository} runs through
+ * {@link BookingSpecifications}: every query is scoped to a tenant and listings
+ * use the same (created_at DESC, id DESC) keyset order and index.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveBookingRepository {
+
+    private static final String SELECT_BOOKINGS = """
+        SELECT id, tenant_id, user_id, booking_type, destination, start_date, end_date,
+               status, total_amount, details::text AS details, version,
+               created_at, updated_at, created_by, updated_by
+        FROM travel.bookings
+        """;
+
+    private static final String SELECT_SUMMARIES = """
+        SELECT id, tenant_id, user_id, booking_type, destination, start_date, end_date,
+               status, total_amount, created_at
+        FROM travel.bookings
+        """;
+
+    /**
+     * Every column, as a {@link Booking}
+     */
+    public static final Columns<Booking> FULL = new Columns<>(SELECT_BOOKINGS, ReactiveBookingRepository::toBooking);
+
+    /**
+     * Without details and audit columns, as a {@link BookingSummary}
+     */
+    public static final Columns<BookingSummary> SUMMARY =
+        new Columns<>(SELECT_SUMMARIES, ReactiveBookingRepository::toSummary);
+
+    private static final String NEWEST_FIRST = " ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Bounded by the ID's {@link CreationWindow} when it has one, so only one partition is read
+     */
+    public Mono<Booking> findByIdAndTenantId(UUID id, String tenantId) {
+        Optional<CreationWindow> window = CreationWindow.of(id);
+        if (window.isEmpty()) {
+            return databaseClient.sql(SELECT_BOOKINGS + " WHERE id = :id AND tenant_id = :tenantId")
+                .bind("id", id)
+                .bind("tenantId", tenantId)
+                .map(ReactiveBookingRepository::toBooking)
+                .one();
+        }
+        return databaseClient.sql(SELECT_BOOKINGS + " WHERE id = :id AND tenant_id = :tenantId"
+                + " AND created_at BETWEEN :from AND :to")
+            .bind("id", id)
+            .bind("tenantId", tenantId)
+            .bind("from", window.get().from())
+            .bind("to", window.get().to())
+            .map(ReactiveBookingRepository::toBooking)
+            .one();
+    }
+
+    /**
+     * One page of an owner's bookings, newest first
+     *
+     * Optional filters are skipped when null; {@code after} continues from a keyset position.
+     */
+    public <T> Flux<T> findPage(Columns<T> columns, String tenantId, String userId, BookingStatus status,
+                                LocalDate startFrom, LocalDate startTo,
+                                BookingCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(columns.select())
+            .append(" WHERE tenant_id = :tenantId AND user_id = :userId");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+        params.put("userId", userId);
+
+        if (status != null) {
+            sql.append(" AND status = :status");
+            params.put("status", status.name());
+        }
+        if (startFrom != null) {
+            sql.append(" AND start_date >= :startFrom");
+            params.put("startFrom", startFrom);
+        }
+        if (startTo != null) {
+            sql.append(" AND start_date <= :startTo");
+            params.put("startTo", startTo);
+        }
+        if (after != null) {
+            // Same shape as BookingSpecifications.after: the redundant bound starts the index scan at the cursor
+            sql.append(" AND created_at <= :cursorCreatedAt")
+                .append(" AND (created_at < :cursorCreatedAt OR (created_at = :cursorCreatedAt AND id < :cursorId))");
+            params.put("cursorCreatedAt", after.createdAt());
+            params.put("cursorId", after.id());
+        }
+        sql.append(NEWEST_FIRST);
+        params.put("limit", limit);
+
+        return query(sql.toString(), params, columns);
+    }
+
+    /**
+     * A tenant's bookings allowed by an OPA residual policy, newest first
+     *
+     * Translated the same way as {@link BookingSpecifications#allowedBy}: queries
+     * with a condition that has no column are discarded, so untranslatable rules
+     * hide rows rather than expose them.
+     */
+    public <T> Flux<T> findAllowed(Columns<T> columns, String tenantId, ResidualPolicy residual, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("tenantId", tenantId);
+
+        List<String> disjuncts = new ArrayList<>();
+        for (List<ResidualPolicy.Condition> conditions : residual.queries()) {
+            String conjunction = toConjunction(conditions, params);
+            if (conjunction != null) {
+                disjuncts.add(conjunction);
+            }
+        }
+        if (disjuncts.isEmpty()) {
+            return Flux.empty();
+        }
+
+        String sql = columns.select()
+            + " WHERE tenant_id = :tenantId AND (" + String.join(" OR ", disjuncts) + ")"
+            + NEWEST_FIRST;
+        params.put("limit", limit);
+
+        return query(sql, params, columns);
+    }
+
+    private <T> Flux<T> query(String sql, Map<String, Object> params, Columns<T> columns) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(columns.mapper()).all();
+    }
+
+    private static String toConjunction(List<ResidualPolicy.Condition> conditions, Map<String, Object> params) {
+        List<String> predicates = new ArrayList<>(conditions.size());
+        for (ResidualPolicy.Condition condition : conditions) {
+            String predicate = toPredicate(condition, params);
+            if (predicate == null) {
+                log.debug("Discarding residual query with untranslatable condition: {}", condition);
+                return null;
+            }
+            predicates.add(predicate);
+        }
+        return predicates.isEmpty() ? "TRUE" : "(" + String.join(" AND ", predicates) + ")";
+    }
+
+    private static String toPredicate(ResidualPolicy.Condition condition, Map<String, Object> params) {
+        if (condition.operator() != ResidualPolicy.Operator.EQ) {
+            return null;
+        }
+        Object value = condition.value();
+        return switch (condition.field()) {
+            case "type" -> "booking".equals(value) ? "TRUE" : "FALSE";
+            case "tenant_id" -> equal("tenant_id", value, params);
+            case "user_id" -> equal("user_id", value, params);
+            case "id" -> {
+                try {
+                    yield value == null ? "FALSE" : equal("id", UUID.fromString(value.toString()), params);
+                } catch (IllegalArgumentException e) {
+                    yield "FALSE";
+                }
+            }
+            case "status" -> {
+                try {
+                    yield value == null ? "FALSE" : equal("status", BookingStatus.valueOf(value.toString()).name(), params);
+                } catch (IllegalArgumentException e) {
+                    yield "FALSE";
+                }
+            }
+            default -> null;
+        };
+    }
+
+    private static String equal(String column, Object value, Map<String, Object> params) {
+        if (value == null) {
+            return column + " IS NULL";
+        }
+        String name = "p" + params.size();
+        params.put(name, value);
+        return column + " = :" + name;
+    }
+
+    private static Booking toBooking(Readable row) {
+        return Booking.builder()
+            .id(row.get("id", UUID.class))
+            .tenantId(row.get("tenant_id", String.class))
+            .userId(row.get("user_id", String.class))
+            .bookingType(row.get("booking_type", String.class))
+            .destination(row.get("destination", String.class))
+            .startDate(row.get("start_date", LocalDate.class))
+            .endDate(row.get("end_date", LocalDate.class))
+            .status(BookingStatus.valueOf(row.get("status", String.class)))
+            .totalAmount(row.get("total_amount", BigDecimal.class))
+            .details(row.get("details", String.class))
+            .version(row.get("version", Long.class))
+            .createdAt(row.get("created_at", LocalDateTime.class))
+            .updatedAt(row.get("updated_at", LocalDateTime.class))
+            .createdBy(row.get("created_by", String.class))
+            .updatedBy(row.get("updated_by", String.class))
+            .build();
+    }
+
+    private static BookingSummary toSummary(Readable row) {
+        return new BookingSummary(
+            row.get("id", UUID.class),
+            row.get("tenant_id", String.class),
+            row.get("user_id", String.class),
+            row.get("booking_type", String.class),
+            row.get("destination", String.class),
+            row.get("start_date", LocalDate.class),
+            row.get("end_date", LocalDate.class),
+            BookingStatus.valueOf(row.get("status", String.class)),
+            row.get("total_amount", BigDecimal.class),
+            row.get("created_at", LocalDateTime.class));
+    }
+
+    /**
+     * Which columns a listing selects and how a row becomes a result
+     */
+    public record Columns<T>(String select, Function<Readable, T> mapper) {
+    }
+}
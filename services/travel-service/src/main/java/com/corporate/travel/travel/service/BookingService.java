@@ -2,8 +2,18 @@ package com.corporate.travel.travel.service;
 
 import com.corporate.travel.models.BookingStatus;
 import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.model.dto.BookingExportFormat;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingSearchRequest;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.dto.BulkBookingResult;
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
 import com.corporate.travel.travel.model.entity.Booking;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +27,16 @@ import java.util.UUID;
  */
 public interface BookingService {
     
+    /**
+     * Server-side cap on page size for booking listings
+     */
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Server-side cap on the number of bookings in one bulk request
+     */
+    int MAX_BULK_SIZE = 10_000;
+
     /**
      * Create a new booking
      * 
@@ -26,6 +46,20 @@ public interface BookingService {
      */
     Booking createBooking(Booking booking, SecurityContext context);
     
+    /**
+     * Create many bookings at once, e.g. group travel or a migration
+     *
+     * Each booking is owned by its userId, defaulting to the caller (or the
+     * delegator). Authorization is decided once per owner, and accepted
+     * bookings are inserted in JDBC batches. One bad item never fails the
+     * request; its outcome is reported in the result instead.
+     *
+     * @param bookings Bookings to create, at most {@link #MAX_BULK_SIZE}
+     * @param context Security context with user/tenant info
+     * @return Per-item outcome in request order
+     */
+    BulkBookingResult createBookings(List<Booking> bookings, SecurityContext context);
+
     /**
      * Get a specific booking by ID
      * 
@@ -38,22 +72,90 @@ public interface BookingService {
     Booking getBooking(UUID id, SecurityContext context);
     
     /**
-     * Get all bookings for the current user
+     * Get one page of the current user's bookings, newest first
+     *
+     * @param context Security context
+     * @param request Cursor, page size, optional filters and view
+     * @return Page of the user's bookings ({@code BookingSummary} or {@code Booking}
+     *         per the request's view) with a cursor for the next page
+     */
+    BookingPage<? extends BookingListItem> getUserBookings(SecurityContext context, BookingListRequest request);
+
+    /**
+     * Get every booking in the tenant the caller may view
+     *
+     * Visibility is decided by OPA partial evaluation and enforced in the
+     * database query, so admin and delegate views need no per-row checks
+     *
+     * @param context Security context
+     * @param limit Maximum number of bookings to return
+     * @param view Summary or full bookings
+     * @return Visible bookings, newest first
+     */
+    List<? extends BookingListItem> getVisibleBookings(SecurityContext context, int limit, BookingView view);
+
+    /**
+     * Search the bookings in the tenant the caller may view, newest first
+     *
+     * Visibility is enforced in the query as for {@link #getVisibleBookings};
+     * each filter maps to an indexed predicate on travel.bookings
+     *
+     * @param context Security context
+     * @param request Filters, cursor, page size and view
+     * @return Page of matching bookings with a cursor for the next page
+     * @throws IllegalArgumentException if a filter, the cursor or the limit is invalid
+     */
+    BookingPage<? extends BookingListItem> searchBookings(SecurityContext context, BookingSearchRequest request);
+
+    /**
+     * Suggest destinations for type-ahead, from an in-memory per-tenant index
+     *
+     * @param context Security context
+     * @param prefix Start of the destination name, case-insensitive
+     * @param limit Maximum number of suggestions
+     * @return The tenant's destinations starting with prefix, most booked first
+     * @throws AccessDeniedException if not authorized
+     */
+    List<DestinationSuggestion> suggestDestinations(SecurityContext context, String prefix, int limit);
+
+    /**
+     * Check that the caller may export every booking in their tenant
+     *
+     * Call before the response is committed so a denial can still produce a 403
      * 
      * @param context Security context
-     * @return List of user's bookings
+     * @throws AccessDeniedException if not authorized
+     */
+    void authorizeExport(SecurityContext context);
+
+    /**
+     * Stream every booking in the caller's tenant to an output stream
+     *
+     * Rows are read from a server-side cursor and written one at a time, so
+     * memory use does not grow with the size of the tenant. Does not authorize;
+     * callers must call {@link #authorizeExport} first
+     *
+     * @param context Security context
+     * @param format Output format
+     * @param out Destination; flushed but not closed
+     * @return Number of bookings written
      */
-    List<Booking> getUserBookings(SecurityContext context);
+    long exportBookings(SecurityContext context, BookingExportFormat format, OutputStream out) throws IOException;
     
     /**
      * Update booking status (used for approval workflow integration)
      * 
+     * The transition must be allowed by {@link BookingStatus#canTransitionTo} and is
+     * applied as a single compare-and-set UPDATE on status and version.
+     *
      * @param id Booking ID
      * @param status New status
+     * @param expectedVersion Version the client last saw, or null to accept the current one
      * @param context Security context
      * @return Updated booking
+     * @throws BookingConflictException if the transition is not allowed or the booking changed concurrently
      */
-    Booking updateBookingStatus(UUID id, BookingStatus status, SecurityContext context);
+    Booking updateBookingStatus(UUID id, BookingStatus status, Long expectedVersion, SecurityContext context);
     
     /**
      * Delete/cancel a booking
@@ -0,0 +1,50 @@
+package com.corporate.travel.travel.service;
+
+import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.entity.Booking;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking booking reads for the reactive deployment
+ *
+ * Same tenant isolation and OPA decisions as {@link BookingService}; errors
+ * are signalled through the returned publisher instead of thrown.
+ */
+public interface ReactiveBookingService {
+
+    /**
+     * Get a specific booking by ID
+     *
+     * @param id Booking ID
+     * @param context Security context
+     * @return Booking if found and authorized; errors with BookingNotFoundException
+     *         or AccessDeniedException otherwise
+     */
+    Mono<Booking> getBooking(UUID id, SecurityContext context);
+
+    /**
+     * Get one page of the current user's bookings, newest first
+     *
+     * @param context Security context
+     * @param request Cursor, page size, optional filters and view
+     * @return Page of the user's bookings with a cursor for the next page
+     */
+    Mono<BookingPage<BookingListItem>> getUserBookings(SecurityContext context, BookingListRequest request);
+
+    /**
+     * Get every booking in the tenant the caller may view
+     *
+     * @param context Security context
+     * @param limit Maximum number of bookings to return
+     * @param view Summary rows or full bookings
+     * @return Visible bookings, newest first
+     */
+    Flux<BookingListItem> getVisibleBookings(SecurityContext context, int limit, BookingView view);
+}
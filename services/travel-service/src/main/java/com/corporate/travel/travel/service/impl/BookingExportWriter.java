@@ -0,0 +1,127 @@
+package com.corporate.travel.travel.service.impl;
+
+import com.corporate.travel.travel.model.dto.BookingExportFormat;
+import com.corporate.travel.travel.model.entity.Booking;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes bookings one at a time to an export stream
+ *
+ * Nothing is accumulated between rows; the underlying stream is flushed
+ * but not closed by {@link #finish()}.
+ */
+abstract class BookingExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static BookingExportWriter create(BookingExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    abstract void write(Booking booking) throws IOException;
+
+    abstract void finish() throws IOException;
+
+    /**
+     * One JSON document per line
+     */
+    private static final class NdjsonWriter extends BookingExportWriter {
+
+        private final JsonGenerator generator;
+        private final SequenceWriter sequence;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.sequence = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(generator);
+        }
+
+        @Override
+        void write(Booking booking) throws IOException {
+            sequence.write(booking);
+        }
+
+        @Override
+        void finish() throws IOException {
+            sequence.close();
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row
+     */
+    private static final class CsvWriter extends BookingExportWriter {
+
+        private static final String HEADER = "id,tenant_id,user_id,booking_type,destination,start_date,end_date,"
+            + "status,total_amount,details,created_at,updated_at,created_by,updated_by";
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        void write(Booking booking) throws IOException {
+            field(booking.getId(), true);
+            field(booking.getTenantId(), true);
+            field(booking.getUserId(), true);
+            field(booking.getBookingType(), true);
+            field(booking.getDestination(), true);
+            field(booking.getStartDate(), true);
+            field(booking.getEndDate(), true);
+            field(booking.getStatus(), true);
+            field(booking.getTotalAmount(), true);
+            field(booking.getDetails(), true);
+            field(booking.getCreatedAt(), true);
+            field(booking.getUpdatedAt(), true);
+            field(booking.getCreatedBy(), true);
+            field(booking.getUpdatedBy(), false);
+            writer.write("\r\n");
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void field(Object value, boolean separator) throws IOException {
+            if (value != null) {
+                String text = Objects.toString(value);
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                        || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(text);
+                }
+            }
+            if (separator) {
+                writer.write(',');
+            }
+        }
+    }
+}
@@ -2,20 +2,68 @@ package com.corporate.travel.travel.service.impl;
 
 import com.corporate.travel.models.BookingStatus;
 import com.corporate.travel.security.OpaClient;
+import com.corporate.travel.security.ResidualPolicy;
 import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.audit.AuditEvent;
+import com.corporate.travel.travel.audit.BookingAuditLog;
+import com.corporate.travel.travel.autocomplete.DestinationAutocomplete;
+import com.corporate.travel.travel.cache.BookingCache;
+import com.corporate.travel.travel.exception.BookingConflictException;
 import com.corporate.travel.travel.exception.BookingNotFoundException;
+import com.corporate.travel.travel.model.dto.BookingCursor;
+import com.corporate.travel.travel.model.dto.BookingExportFormat;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingSearchRequest;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.dto.BulkBookingResult;
+import com.corporate.travel.travel.model.dto.BulkBookingResult.ItemStatus;
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
 import com.corporate.travel.travel.model.entity.Booking;
+import com.corporate.travel.travel.outbox.BookingOutbox;
 import com.corporate.travel.travel.repository.BookingRepository;
+import com.corporate.travel.travel.repository.BookingSpecifications;
+import com.corporate.travel.travel.repository.CreationMonth;
 import com.corporate.travel.travel.service.BookingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of BookingService with OPA authorization
@@ -25,17 +73,37 @@ import java.util.UUID;
  * 2. Load resource from database
  * 3. Build OPA input with user + resource context
  * 4. Call OPA for authorization
- * 5. Execute business logic if authorized
- * 6. (Audit logging would go here)
+ * 5. Execute business logic if authorized, writing a change event to the
+ *    outbox in the same transaction
+ * 6. Record the action and decision in the audit log (written asynchronously)
  */
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class BookingServiceImpl implements BookingService {
     
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /**
+     * Rows per bulk-insert transaction; matches hibernate.jdbc.batch_size
+     */
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final String CREATE_FOR_USER_ACTION = "create_booking_for_user";
+
     private final BookingRepository bookingRepository;
+    private final BookingCache bookingCache;
+    private final BookingAuditLog auditLog;
+    private final BookingOutbox outbox;
+    private final DestinationAutocomplete destinations;
     private final OpaClient opaClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Override
     public Booking createBooking(Booking booking, SecurityContext context) {
@@ -68,37 +136,123 @@ public class BookingServiceImpl implements BookingService {
         if (!opaClient.authorize(context, "create_booking", resource)) {
             log.warn("Authorization denied for user {} to create booking in tenant {}", 
                 context.getUserId(), context.getTenantId());
+            auditLog.record(AuditEvent.denied(context, "create_booking", null, Map.of()));
             throw new AccessDeniedException("Not authorized to create bookings");
         }
         
-        Booking saved = bookingRepository.save(booking);
+        // Flushed so the event carries the generated timestamps
+        Booking saved = bookingRepository.saveAndFlush(booking);
+        outbox.created(saved);
+        destinations.created(saved);
         log.info("Booking created with ID: {}", saved.getId());
+        auditLog.record(AuditEvent.allowed(context, "create_booking", saved.getId(), Map.of()));
         
         return saved;
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkBookingResult createBookings(List<Booking> bookings, SecurityContext context) {
+        log.info("Bulk creating {} bookings for user: {}, tenant: {}",
+            bookings.size(), context.getUserId(), context.getTenantId());
+
+        String callerOwnerId = context.getSubjectId() != null ? context.getSubjectId() : context.getUserId();
+        BulkBookingResult.Item[] results = new BulkBookingResult.Item[bookings.size()];
+        Map<String, List<Integer>> byOwner = new LinkedHashMap<>();
+
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            if (booking == null) {
+                results[i] = new BulkBookingResult.Item(i, ItemStatus.INVALID, null, "booking is required");
+                continue;
+            }
+
+            // Same defaults as createBooking; the owner may differ per item
+            booking.setId(null);
+            booking.setTenantId(context.getTenantId());
+            if (booking.getUserId() == null) {
+                booking.setUserId(callerOwnerId);
+            }
+            booking.setCreatedBy(context.getUserId());
+            booking.setUpdatedBy(context.getUserId());
+            if (booking.getStatus() == null) {
+                booking.setStatus(BookingStatus.PENDING);
+            }
+
+            Set<ConstraintViolation<Booking>> violations = validator.validate(booking);
+            if (!violations.isEmpty()) {
+                results[i] = new BulkBookingResult.Item(i, ItemStatus.INVALID, null, describe(violations));
+                continue;
+            }
+            byOwner.computeIfAbsent(booking.getUserId(), owner -> new ArrayList<>()).add(i);
+        }
+
+        // One decision per (tenant, owner) group instead of one per booking
+        Set<String> allowedOwners = authorizeOwners(context, callerOwnerId, byOwner.keySet());
+        List<Integer> accepted = new ArrayList<>();
+        byOwner.forEach((owner, indices) -> {
+            if (allowedOwners.contains(owner)) {
+                accepted.addAll(indices);
+            } else {
+                log.warn("Authorization denied for user {} to create bookings for {} in tenant {}",
+                    context.getUserId(), owner, context.getTenantId());
+                indices.forEach(i -> results[i] = new BulkBookingResult.Item(
+                    i, ItemStatus.FORBIDDEN, null, "Not authorized to create bookings for " + owner));
+                auditLog.record(AuditEvent.denied(context, createAction(callerOwnerId, owner), null,
+                    Map.of("user_id", owner, "count", indices.size())));
+            }
+        });
+        Collections.sort(accepted);
+
+        insertInChunks(bookings, accepted, results);
+
+        int created = 0;
+        for (BulkBookingResult.Item item : results) {
+            if (item.getStatus() == ItemStatus.CREATED) {
+                created++;
+                String owner = bookings.get(item.getIndex()).getUserId();
+                auditLog.record(AuditEvent.allowed(context, createAction(callerOwnerId, owner), item.getId(),
+                    Map.of("user_id", owner, "bulk", true)));
+            }
+        }
+        log.info("Bulk create finished: {} created, {} rejected", created, results.length - created);
+        return new BulkBookingResult(created, results.length - created, Arrays.asList(results));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Booking getBooking(UUID id, SecurityContext context) {
         log.debug("Fetching booking {} for user {}", id, context.getUserId());
         
-        // Load booking with tenant check for isolation
-        Booking booking = bookingRepository.findByIdAndTenantId(id, context.getTenantId())
-            .orElseThrow(() -> new BookingNotFoundException(id));
-        
-        // Build resource context for OPA
-        Map<String, Object> resource = Map.of(
+        // Start the owner-level check ("may this caller view the owner's bookings")
+        // while the row loads. It is the same decision getUserBookings uses to
+        // expose every booking of that owner, so it also covers this one.
+        String ownerId = context.getSubjectId() != null ? context.getSubjectId() : context.getUserId();
+        Map<String, Object> ownerResource = Map.of(
             "type", "booking",
-            "id", booking.getId().toString(),
-            "tenant_id", booking.getTenantId(),
-            "user_id", booking.getUserId(),
-            "status", booking.getStatus().toString()
+            "tenant_id", context.getTenantId(),
+            "user_id", ownerId
         );
+        CompletableFuture<Boolean> ownerDecision = opaClient
+            .authorizeAsync(context, "view_booking", ownerResource)
+            .toFuture();
+
+        // Load booking with tenant check for isolation (cache hits skip the database)
+        Booking booking = bookingCache.find(id, context.getTenantId())
+            .orElseThrow(() -> new BookingNotFoundException(id));
+
+        if (ownerId.equals(booking.getUserId()) && ownerDecision.join()) {
+            return booking;
+        }
+
+        // Not the caller's (or delegator's) booking - evaluate against the actual resource
+        Map<String, Object> resource = toResource(booking);
         
         // Check authorization with OPA
         if (!opaClient.authorize(context, "view_booking", resource)) {
             log.warn("Authorization denied for user {} to view booking {}", 
                 context.getUserId(), id);
+            auditLog.record(AuditEvent.denied(context, "view_booking", id, Map.of()));
             throw new AccessDeniedException("Not authorized to view this booking");
         }
         
@@ -107,7 +261,8 @@ public class BookingServiceImpl implements BookingService {
     
     @Override
     @Transactional(readOnly = true)
-    public List<Booking> getUserBookings(SecurityContext context) {
+    public BookingPage<? extends BookingListItem> getUserBookings(SecurityContext context,
+                                                                  BookingListRequest request) {
         log.debug("Fetching bookings for user {} in tenant {}", 
             context.getUserId(), context.getTenantId());
         
@@ -118,6 +273,11 @@ public class BookingServiceImpl implements BookingService {
         log.debug("context: {}", context);
         log.debug("targetUserId: {}", targetUserId);
         
+        if (request.getLimit() < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        int limit = Math.min(request.getLimit(), MAX_PAGE_SIZE);
+
         // Authorization check - can user list bookings?
         Map<String, Object> resource = Map.of(
             "type", "booking",
@@ -125,19 +285,232 @@ public class BookingServiceImpl implements BookingService {
             "user_id", targetUserId
         );
         
-        if (!opaClient.authorize(context, "view_booking", resource)) {
+        // Overlap the policy check with the query; rows are discarded if denied
+        CompletableFuture<Boolean> decision = opaClient
+            .authorizeAsync(context, "view_booking", resource)
+            .toFuture();
+
+        Specification<Booking> spec = Specification
+            .where(BookingSpecifications.inTenant(context.getTenantId()))
+            .and(BookingSpecifications.ownedBy(targetUserId));
+        if (request.getStatus() != null) {
+            spec = spec.and(BookingSpecifications.hasStatus(request.getStatus()));
+        }
+        if (request.getStartFrom() != null) {
+            spec = spec.and(BookingSpecifications.startsOnOrAfter(request.getStartFrom()));
+        }
+        if (request.getStartTo() != null) {
+            spec = spec.and(BookingSpecifications.startsOnOrBefore(request.getStartTo()));
+        }
+        BookingCursor cursor = null;
+        if (request.getCursor() != null) {
+            cursor = BookingCursor.decode(request.getCursor());
+            spec = spec.and(BookingSpecifications.after(cursor));
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<? extends BookingListItem> rows = findNewest(spec, cursor, limit + 1, request.getView());
+
+        if (!decision.join()) {
             log.warn("Authorization denied for user {} to list bookings", context.getUserId());
             throw new AccessDeniedException("Not authorized to list bookings");
         }
         
-        return bookingRepository.findByTenantIdAndUserId(
-            context.getTenantId(), 
-            targetUserId
+        boolean hasMore = rows.size() > limit;
+        List<? extends BookingListItem> bookings = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            BookingListItem last = bookings.get(bookings.size() - 1);
+            nextCursor = new BookingCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // Per-booking decisions (status, id) in a single OPA round trip
+        List<Map<String, Object>> resources = bookings.stream()
+            .map(this::toResource)
+            .toList();
+        List<Boolean> allowed = opaClient.authorizeBatch(context, "view_booking", resources);
+
+        List<BookingListItem> visible = new ArrayList<>(bookings.size());
+        for (int i = 0; i < bookings.size(); i++) {
+            if (allowed.get(i)) {
+                visible.add(bookings.get(i));
+            }
+        }
+        if (visible.size() < bookings.size()) {
+            log.debug("Filtered {} of {} bookings for user {}",
+                bookings.size() - visible.size(), bookings.size(), context.getUserId());
+        }
+        return new BookingPage<>(visible, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<? extends BookingListItem> getVisibleBookings(SecurityContext context, int limit, BookingView view) {
+        log.debug("Fetching visible bookings for user {} in tenant {}",
+            context.getUserId(), context.getTenantId());
+
+        // Let OPA decide which rows are visible, with the booking left unknown
+        ResidualPolicy residual = opaClient.partialEvaluate(context, "view_booking");
+        if (residual.isDenyAll()) {
+            log.debug("No bookings visible to user {}", context.getUserId());
+            return List.of();
+        }
+
+        Specification<Booking> visible = Specification
+            .where(BookingSpecifications.inTenant(context.getTenantId()))
+            .and(BookingSpecifications.allowedBy(residual));
+
+        return findNewest(visible, null, limit, view);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPage<? extends BookingListItem> searchBookings(SecurityContext context,
+                                                                 BookingSearchRequest request) {
+        log.debug("Searching bookings for user {} in tenant {}",
+            context.getUserId(), context.getTenantId());
+
+        if (request.getLimit() < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        int limit = Math.min(request.getLimit(), MAX_PAGE_SIZE);
+        Specification<Booking> filters = searchFilters(request);
+
+        ResidualPolicy residual = opaClient.partialEvaluate(context, "view_booking");
+        if (residual.isDenyAll()) {
+            log.debug("No bookings visible to user {}", context.getUserId());
+            return new BookingPage<>(List.of(), null);
+        }
+
+        Specification<Booking> spec = Specification
+            .where(BookingSpecifications.inTenant(context.getTenantId()))
+            .and(BookingSpecifications.allowedBy(residual))
+            .and(filters);
+        BookingCursor cursor = null;
+        if (request.getCursor() != null) {
+            cursor = BookingCursor.decode(request.getCursor());
+            spec = spec.and(BookingSpecifications.after(cursor));
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<? extends BookingListItem> rows = findNewest(spec, cursor, limit + 1, request.getView());
+        boolean hasMore = rows.size() > limit;
+        List<? extends BookingListItem> bookings = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            BookingListItem last = bookings.get(bookings.size() - 1);
+            nextCursor = new BookingCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new BookingPage<>(bookings, nextCursor);
+    }
+
+    /**
+     * Search filters as one Specification; null when the request has none
+     */
+    private Specification<Booking> searchFilters(BookingSearchRequest request) {
+        Specification<Booking> spec = null;
+
+        if (request.getDestination() != null && !request.getDestination().isBlank()) {
+            String destination = request.getDestination().strip();
+            if (request.getDestinationMatch() == BookingSearchRequest.DestinationMatch.CONTAINS) {
+                // Shorter patterns have no trigram and would scan the whole index
+                if (destination.length() < 3) {
+                    throw new IllegalArgumentException("destination must be at least 3 characters for CONTAINS");
+                }
+                spec = and(spec, BookingSpecifications.destinationContains(destination));
+            } else {
+                spec = and(spec, BookingSpecifications.destinationStartsWith(destination));
+            }
+        }
+        if (request.getTravelFrom() != null || request.getTravelTo() != null) {
+            if (request.getTravelFrom() != null && request.getTravelTo() != null
+                    && request.getTravelFrom().isAfter(request.getTravelTo())) {
+                throw new IllegalArgumentException("travelFrom must not be after travelTo");
+            }
+            spec = and(spec, BookingSpecifications.travelOverlaps(request.getTravelFrom(), request.getTravelTo()));
+        }
+        if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
+            spec = and(spec, BookingSpecifications.hasStatusIn(request.getStatuses()));
+        }
+        if (request.getBookingType() != null && !request.getBookingType().isBlank()) {
+            spec = and(spec, BookingSpecifications.hasType(request.getBookingType().strip()));
+        }
+        if (request.getMinAmount() != null || request.getMaxAmount() != null) {
+            if (request.getMinAmount() != null && request.getMaxAmount() != null
+                    && request.getMinAmount().compareTo(request.getMaxAmount()) > 0) {
+                throw new IllegalArgumentException("minAmount must not exceed maxAmount");
+            }
+            spec = and(spec, BookingSpecifications.amountBetween(request.getMinAmount(), request.getMaxAmount()));
+        }
+        if (request.getDetails() != null && !request.getDetails().isEmpty()) {
+            try {
+                spec = and(spec, BookingSpecifications.detailsContain(objectMapper.writeValueAsString(request.getDetails())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("details is not a valid JSON object", e);
+            }
+        }
+        return spec;
+    }
+
+    private static Specification<Booking> and(Specification<Booking> spec, Specification<Booking> next) {
+        return spec == null ? next : spec.and(next);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<DestinationSuggestion> suggestDestinations(SecurityContext context, String prefix, int limit) {
+        // Same check as listing one's own bookings, so it is usually an OPA decision cache hit
+        String ownerId = context.getSubjectId() != null ? context.getSubjectId() : context.getUserId();
+        if (!opaClient.authorize(context, "view_booking", ownerResource(context, ownerId))) {
+            log.warn("Authorization denied for user {} to look up destinations", context.getUserId());
+            throw new AccessDeniedException("Not authorized to list bookings");
+        }
+        return destinations.suggest(context.getTenantId(), prefix, limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void authorizeExport(SecurityContext context) {
+        Map<String, Object> resource = Map.of(
+            "type", "booking",
+            "tenant_id", context.getTenantId()
         );
+
+        if (!opaClient.authorize(context, "export_bookings", resource)) {
+            log.warn("Authorization denied for user {} to export bookings of tenant {}",
+                context.getUserId(), context.getTenantId());
+            auditLog.record(AuditEvent.denied(context, "export_bookings", null, Map.of()));
+            throw new AccessDeniedException("Not authorized to export bookings");
+        }
     }
     
     @Override
-    public Booking updateBookingStatus(UUID id, BookingStatus status, SecurityContext context) {
+    @Transactional(readOnly = true)
+    public long exportBookings(SecurityContext context, BookingExportFormat format, OutputStream out)
+            throws IOException {
+        long count = 0;
+        BookingExportWriter writer = BookingExportWriter.create(format, out, objectMapper);
+        try (Stream<Booking> bookings = bookingRepository.streamByTenantId(context.getTenantId())) {
+            Iterator<Booking> rows = bookings.iterator();
+            while (rows.hasNext()) {
+                Booking booking = rows.next();
+                writer.write(booking);
+                // Keep the persistence context empty so memory stays flat
+                entityManager.detach(booking);
+                count++;
+            }
+        }
+        writer.finish();
+
+        log.info("Exported {} bookings of tenant {}", count, context.getTenantId());
+        auditLog.record(AuditEvent.allowed(context, "export_bookings", null,
+            Map.of("format", format.name(), "count", count)));
+        return count;
+    }
+
+    @Override
+    public Booking updateBookingStatus(UUID id, BookingStatus status, Long expectedVersion,
+                                       SecurityContext context) {
         log.info("Updating booking {} status to {}", id, status);
         
         // Load booking with tenant check
@@ -158,17 +531,43 @@ public class BookingServiceImpl implements BookingService {
         if (!opaClient.authorize(context, "update_booking", resource)) {
             log.warn("Authorization denied for user {} to update booking {}", 
                 context.getUserId(), id);
+            auditLog.record(AuditEvent.denied(context, "update_booking", id,
+                Map.of("from", booking.getStatus().toString(), "to", status.toString())));
             throw new AccessDeniedException("Not authorized to update this booking");
         }
         
-        // Update status
+        BookingStatus current = booking.getStatus();
+        if (!current.canTransitionTo(status)) {
+            throw BookingConflictException.illegalTransition(id, current, status);
+        }
+
+        // The client's copy is already stale
+        long version = booking.getVersion();
+        if (expectedVersion != null && expectedVersion != version) {
+            throw BookingConflictException.concurrentModification(id);
+        }
+
+        // Compare-and-set: applies only if nobody changed the booking since it was read
+        LocalDateTime now = LocalDateTime.now();
+        int updated = bookingRepository.transitionStatus(
+            id, context.getTenantId(), booking.getCreatedAt(), current, version, status, now, context.getUserId());
+        if (updated == 0) {
+            log.warn("Concurrent modification of booking {} while moving {} -> {}", id, current, status);
+            throw BookingConflictException.concurrentModification(id);
+        }
+        bookingCache.publishChange(context.getTenantId(), id);
+
+        // Reflect the row as written instead of reading it back
         booking.setStatus(status);
+        booking.setVersion(version + 1);
+        booking.setUpdatedAt(now);
         booking.setUpdatedBy(context.getUserId());
+        outbox.statusChanged(booking);
+        log.info("Booking {} status updated {} -> {} (version {})", id, current, status, version + 1);
+        auditLog.record(AuditEvent.allowed(context, "update_booking", id,
+            Map.of("from", current.toString(), "to", status.toString(), "version", version + 1)));
         
-        Booking updated = bookingRepository.save(booking);
-        log.info("Booking {} status updated to {}", id, status);
-        
-        return updated;
+        return booking;
     }
     
     @Override
@@ -180,23 +579,168 @@ public class BookingServiceImpl implements BookingService {
             .orElseThrow(() -> new BookingNotFoundException(id));
         
         // Build resource context
-        Map<String, Object> resource = Map.of(
-            "type", "booking",
-            "id", booking.getId().toString(),
-            "tenant_id", booking.getTenantId(),
-            "user_id", booking.getUserId(),
-            "status", booking.getStatus().toString()
-        );
+        Map<String, Object> resource = toResource(booking);
         
         // Check authorization
         if (!opaClient.authorize(context, "delete_booking", resource)) {
             log.warn("Authorization denied for user {} to delete booking {}", 
                 context.getUserId(), id);
+            auditLog.record(AuditEvent.denied(context, "delete_booking", id, Map.of()));
             throw new AccessDeniedException("Not authorized to delete this booking");
         }
         
-        // Delete the booking
-        bookingRepository.delete(booking);
+        // Delete the booking (by key, so only its partition is touched)
+        if (bookingRepository.deleteInPartition(id, booking.getTenantId(), booking.getCreatedAt()) == 0) {
+            throw BookingConflictException.concurrentModification(id);
+        }
+        bookingCache.publishChange(booking.getTenantId(), id);
+        outbox.deleted(booking);
+        destinations.deleted(booking);
         log.info("Booking {} deleted", id);
+        auditLog.record(AuditEvent.allowed(context, "delete_booking", id,
+            Map.of("status", booking.getStatus().toString())));
+    }
+
+    /**
+     * Owners the caller may create bookings for. The caller's own bookings use
+     * create_booking; bookings for anyone else need create_booking_for_user,
+     * which the policy grants only to tenant admins.
+     */
+    private Set<String> authorizeOwners(SecurityContext context, String callerOwnerId, Set<String> owners) {
+        Set<String> allowed = new HashSet<>();
+        if (owners.contains(callerOwnerId)
+                && opaClient.authorize(context, "create_booking", ownerResource(context, callerOwnerId))) {
+            allowed.add(callerOwnerId);
+        }
+
+        List<String> others = owners.stream()
+            .filter(owner -> !owner.equals(callerOwnerId))
+            .toList();
+        if (!others.isEmpty()) {
+            List<Map<String, Object>> resources = others.stream()
+                .map(owner -> ownerResource(context, owner))
+                .toList();
+            List<Boolean> decisions = opaClient.authorizeBatch(context, CREATE_FOR_USER_ACTION, resources);
+            for (int i = 0; i < others.size(); i++) {
+                if (decisions.get(i)) {
+                    allowed.add(others.get(i));
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Insert in transactions of BULK_CHUNK_SIZE rows, each flushed as JDBC batches.
+     * If a chunk fails, its rows are retried one by one so only the bad rows fail.
+     */
+    private void insertInChunks(List<Booking> bookings, List<Integer> indices, BulkBookingResult.Item[] results) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < indices.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = indices.subList(from, Math.min(from + BULK_CHUNK_SIZE, indices.size()));
+            try {
+                transaction.executeWithoutResult(status -> insert(bookings, chunk));
+                chunk.forEach(i -> results[i] = created(i, bookings.get(i)));
+            } catch (DataAccessException | PersistenceException | TransactionException e) {
+                log.warn("Bulk insert of {} bookings failed, retrying individually: {}", chunk.size(), e.getMessage());
+                for (int i : chunk) {
+                    bookings.get(i).setId(null);
+                    try {
+                        transaction.executeWithoutResult(status -> insert(bookings, List.of(i)));
+                        results[i] = created(i, bookings.get(i));
+                    } catch (DataAccessException | PersistenceException | TransactionException rowError) {
+                        bookings.get(i).setId(null);
+                        results[i] = new BulkBookingResult.Item(i, ItemStatus.FAILED, null,
+                            NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void insert(List<Booking> bookings, List<Integer> indices) {
+        List<Booking> chunk = new ArrayList<>(indices.size());
+        for (int i : indices) {
+            entityManager.persist(bookings.get(i));
+            chunk.add(bookings.get(i));
+        }
+        // Send the batched INSERTs and drop the managed copies
+        entityManager.flush();
+        entityManager.clear();
+        outbox.created(chunk);
+        destinations.created(chunk);
+    }
+
+    private static String createAction(String callerOwnerId, String owner) {
+        return owner.equals(callerOwnerId) ? "create_booking" : CREATE_FOR_USER_ACTION;
+    }
+
+    private static BulkBookingResult.Item created(int index, Booking booking) {
+        return new BulkBookingResult.Item(index, ItemStatus.CREATED, booking.getId(), null);
+    }
+
+    private static String describe(Set<ConstraintViolation<Booking>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private static Map<String, Object> ownerResource(SecurityContext context, String ownerId) {
+        return Map.of(
+            "type", "booking",
+            "tenant_id", context.getTenantId(),
+            "user_id", ownerId
+        );
+    }
+
+    /**
+     * Newest bookings matching spec, read one monthly partition at a time
+     *
+     * Starts with the month of the cursor (the current month for a first page) and
+     * moves a month back while the page is short, down to the oldest partition, so a
+     * page that fills from recent bookings does not probe every partition's index.
+     */
+    private List<? extends BookingListItem> findNewest(Specification<Booking> spec, BookingCursor cursor,
+                                                      int limit, BookingView view) {
+        CreationMonth month = CreationMonth.startingAt(cursor != null ? cursor.createdAt() : LocalDateTime.now());
+        List<? extends BookingListItem> rows = find(spec.and(BookingSpecifications.createdIn(month)), limit, view);
+        if (rows.size() >= limit) {
+            return rows;
+        }
+
+        LocalDateTime oldest = bookingRepository.findOldestPartitionStart().orElse(month.from());
+        List<BookingListItem> page = new ArrayList<>(rows);
+        while (page.size() < limit && month.from().isAfter(oldest)) {
+            month = month.previous();
+            page.addAll(find(spec.and(BookingSpecifications.createdIn(month)), limit - page.size(), view));
+        }
+        return page;
+    }
+
+    /**
+     * Newest bookings matching spec; summaries never load the details column
+     */
+    private List<? extends BookingListItem> find(Specification<Booking> spec, int limit, BookingView view) {
+        if (view == BookingView.FULL) {
+            return bookingRepository.findBy(spec, query -> query
+                .sortBy(NEWEST_FIRST)
+                .limit(limit)
+                .all());
+        }
+        return bookingRepository.findSummaries(spec, NEWEST_FIRST, limit);
+    }
+
+    /**
+     * OPA resource document for an existing booking
+     */
+    private Map<String, Object> toResource(BookingListItem booking) {
+        return Map.of(
+            "type", "booking",
+            "id", booking.getId().toString(),
+            "tenant_id", booking.getTenantId(),
+            "user_id", booking.getUserId(),
+            "status", booking.getStatus().toString()
+        );
     }
 }
@@ -0,0 +1,193 @@
+package com.corporate.travel.travel.service.impl;
+
+import com.corporate.travel.security.OpaClient;
+import com.corporate.travel.security.SecurityContext;
+import com.corporate.travel.travel.exception.BookingNotFoundException;
+import com.corporate.travel.travel.model.dto.BookingCursor;
+import com.corporate.travel.travel.model.dto.BookingListItem;
+import com.corporate.travel.travel.model.dto.BookingListRequest;
+import com.corporate.travel.travel.model.dto.BookingPage;
+import com.corporate.travel.travel.model.dto.BookingView;
+import com.corporate.travel.travel.model.entity.Booking;
+import com.corporate.travel.travel.repository.ReactiveBookingRepository;
+import com.corporate.travel.travel.service.BookingService;
+import com.corporate.travel.travel.service.ReactiveBookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reactive implementation of the booking reads, on R2DBC and the async OPA client
+ *
+ * Follows {@link BookingServiceImpl} decision for decision: the owner-level
+ * check runs alongside the query, and list pages are filtered with one batch
+ * OPA call. Nothing here blocks, so a handful of event-loop threads can serve
+ * every in-flight request.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveBookingServiceImpl implements ReactiveBookingService {
+
+    private final ReactiveBookingRepository bookingRepository;
+    private final OpaClient opaClient;
+
+    @Override
+    public Mono<Booking> getBooking(UUID id, SecurityContext context) {
+        log.debug("Fetching booking {} for user {}", id, context.getUserId());
+
+        // Owner-level check overlaps the row load, as in BookingServiceImpl.getBooking
+        String ownerId = ownerOf(context);
+        Mono<Boolean> ownerDecision = opaClient
+            .authorizeAsync(context, "view_booking", ownerResource(context, ownerId));
+
+        // Load booking with tenant check for isolation
+        Mono<Booking> row = bookingRepository.findByIdAndTenantId(id, context.getTenantId())
+            .switchIfEmpty(Mono.error(() -> new BookingNotFoundException(id)));
+
+        return Mono.zip(row, ownerDecision)
+            .flatMap(result -> {
+                Booking booking = result.getT1();
+                if (ownerId.equals(booking.getUserId()) && result.getT2()) {
+                    return Mono.just(booking);
+                }
+
+                // Not the caller's (or delegator's) booking - evaluate against the actual resource
+                return opaClient.authorizeAsync(context, "view_booking", toResource(booking))
+                    .flatMap(allowed -> {
+                        if (!allowed) {
+                            log.warn("Authorization denied for user {} to view booking {}",
+                                context.getUserId(), id);
+                            return Mono.error(new AccessDeniedException("Not authorized to view this booking"));
+                        }
+                        return Mono.just(booking);
+                    });
+            });
+    }
+
+    @Override
+    public Mono<BookingPage<BookingListItem>> getUserBookings(SecurityContext context, BookingListRequest request) {
+        log.debug("Fetching bookings for user {} in tenant {}",
+            context.getUserId(), context.getTenantId());
+
+        if (request.getLimit() < 1) {
+            return Mono.error(new IllegalArgumentException("limit must be at least 1"));
+        }
+        int limit = Math.min(request.getLimit(), BookingService.MAX_PAGE_SIZE);
+        BookingCursor cursor;
+        try {
+            cursor = request.getCursor() != null ? BookingCursor.decode(request.getCursor()) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        String targetUserId = ownerOf(context);
+
+        // Policy check and query run concurrently; rows are discarded if denied
+        Mono<Boolean> decision = opaClient
+            .authorizeAsync(context, "view_booking", ownerResource(context, targetUserId));
+
+        // Fetch one extra row to learn whether another page exists
+        Mono<List<BookingListItem>> rows = bookingRepository
+            .findPage(columns(request.getView()), context.getTenantId(), targetUserId, request.getStatus(),
+                request.getStartFrom(), request.getStartTo(), cursor, limit + 1)
+            .cast(BookingListItem.class)
+            .collectList();
+
+        return Mono.zip(decision, rows)
+            .flatMap(result -> {
+                if (!result.getT1()) {
+                    log.warn("Authorization denied for user {} to list bookings", context.getUserId());
+                    return Mono.error(new AccessDeniedException("Not authorized to list bookings"));
+                }
+                List<BookingListItem> page = result.getT2();
+                boolean hasMore = page.size() > limit;
+                List<BookingListItem> bookings = hasMore ? page.subList(0, limit) : page;
+                String nextCursor = null;
+                if (hasMore) {
+                    BookingListItem last = bookings.get(bookings.size() - 1);
+                    nextCursor = new BookingCursor(last.getCreatedAt(), last.getId()).encode();
+                }
+                String next = nextCursor;
+
+                // Per-booking decisions (status, id) in a single OPA round trip
+                List<Map<String, Object>> resources = bookings.stream()
+                    .map(this::toResource)
+                    .toList();
+                return opaClient.authorizeBatchAsync(context, "view_booking", resources)
+                    .map(allowed -> new BookingPage<>(visible(bookings, allowed, context), next));
+            });
+    }
+
+    @Override
+    public Flux<BookingListItem> getVisibleBookings(SecurityContext context, int limit, BookingView view) {
+        log.debug("Fetching visible bookings for user {} in tenant {}",
+            context.getUserId(), context.getTenantId());
+
+        // Let OPA decide which rows are visible, with the booking left unknown
+        return opaClient.partialEvaluateAsync(context, "view_booking")
+            .flatMapMany(residual -> {
+                if (residual.isDenyAll()) {
+                    log.debug("No bookings visible to user {}", context.getUserId());
+                    return Flux.empty();
+                }
+                return bookingRepository.findAllowed(columns(view), context.getTenantId(), residual, limit)
+                    .cast(BookingListItem.class);
+            });
+    }
+
+    /**
+     * Listings skip the details column unless the full view is asked for
+     */
+    private ReactiveBookingRepository.Columns<? extends BookingListItem> columns(BookingView view) {
+        return view == BookingView.FULL ? ReactiveBookingRepository.FULL : ReactiveBookingRepository.SUMMARY;
+    }
+
+    private List<BookingListItem> visible(List<BookingListItem> bookings, List<Boolean> allowed, SecurityContext context) {
+        List<BookingListItem> visible = new ArrayList<>(bookings.size());
+        for (int i = 0; i < bookings.size(); i++) {
+            if (allowed.get(i)) {
+                visible.add(bookings.get(i));
+            }
+        }
+        if (visible.size() < bookings.size()) {
+            log.debug("Filtered {} of {} bookings for user {}",
+                bookings.size() - visible.size(), bookings.size(), context.getUserId());
+        }
+        return visible;
+    }
+
+    /**
+     * The caller, or the delegator when acting on someone's behalf
+     */
+    private String ownerOf(SecurityContext context) {
+        return context.getSubjectId() != null ? context.getSubjectId() : context.getUserId();
+    }
+
+    private Map<String, Object> ownerResource(SecurityContext context, String ownerId) {
+        return Map.of(
+            "type", "booking",
+            "tenant_id", context.getTenantId(),
+            "user_id", ownerId
+        );
+    }
+
+    private Map<String, Object> toResource(BookingListItem booking) {
+        return Map.of(
+            "type", "booking",
+            "id", booking.getId().toString(),
+            "tenant_id", booking.getTenantId(),
+            "user_id", booking.getUserId(),
+            "status", booking.getStatus().toString()
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.corporate.travel.travel.autocomplete;
+
+import com.corporate.travel.travel.model.dto.DestinationSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DestinationIndexTest {
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    @Test
+    void suggestsMostBookedMatchesFirstUpToLimit() {
+        DestinationIndex index = DestinationIndex.load(counts(
+                "Berlin", 5, "Bern", 9, "Bergen", 2, "Bordeaux", 7, "Barcelona", 11), UNBOUNDED);
+
+        assertThat(index.suggest("ber", 2)).containsExactly(
+                new DestinationSuggestion("Bern", 9),
+                new DestinationSuggestion("Berlin", 5));
+    }
+
+    @Test
+    void breaksTiesAlphabetically() {
+        DestinationIndex index = DestinationIndex.load(counts("Paris", 3, "Palermo", 3, "Padua", 3), UNBOUNDED);
+
+        assertThat(index.suggest("pa", 3)).extracting(DestinationSuggestion::destination)
+                .containsExactly("Padua", "Palermo", "Paris");
+    }
+
+    @Test
+    void matchesPrefixIgnoringCaseAndSurroundingSpace() {
+        DestinationIndex index = DestinationIndex.load(counts("  New York ", 4), UNBOUNDED);
+
+        assertThat(index.suggest(" NEW y", 5)).containsExactly(new DestinationSuggestion("New York", 4));
+    }
+
+    @Test
+    void suggestsNothingForBlankPrefixZeroLimitOrNoMatch() {
+        DestinationIndex index = DestinationIndex.load(counts("Oslo", 1, "Zurich", 1), UNBOUNDED);
+
+        assertThat(index.suggest(" ", 5)).isEmpty();
+        assertThat(index.suggest("os", 0)).isEmpty();
+        assertThat(index.suggest("zz", 5)).isEmpty();
+        assertThat(index.suggest("lisbon", 5)).isEmpty();
+    }
+
+    @Test
+    void leavesOutLeastBookedDestinationsBeyondTheBudget() {
+        // "Rome", "Riga", "Oslo": 96 + 2 * (4 + 4) = 112 bytes each
+        DestinationIndex index = DestinationIndex.load(counts("Rome", 9, "Riga", 3, "Oslo", 6), 230);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.sizeInBytes()).isEqualTo(224);
+        assertThat(index.dropped()).isEqualTo(1);
+        assertThat(index.suggest("r", 5)).extracting(DestinationSuggestion::destination).containsExactly("Rome");
+    }
+
+    @Test
+    void appliesCountChangesAndRemovesDestinationsWithoutBookings() {
+        DestinationIndex index = DestinationIndex.load(counts("Lima", 2, "Lyon", 1), UNBOUNDED);
+
+        DestinationIndex updated = index.apply(Map.of("lyon", -1, "LIMA", 3, "Leeds", 1), UNBOUNDED);
+
+        assertThat(updated.suggest("l", 5)).containsExactly(
+                new DestinationSuggestion("Lima", 5),
+                new DestinationSuggestion("Leeds", 1));
+        assertThat(index.suggest("l", 5)).hasSize(2);
+    }
+
+    @Test
+    void updatesOnlyAddNewlyDroppedDestinations() {
+        DestinationIndex index = DestinationIndex.load(counts("Rome", 9, "Riga", 3, "Oslo", 6), 230);
+
+        DestinationIndex unchanged = index.apply(Map.of("Rome", 1), 230);
+        DestinationIndex pushedOut = unchanged.apply(Map.of("Kiev", 8), 230);
+
+        assertThat(unchanged.dropped()).isEqualTo(1);
+        assertThat(pushedOut.dropped()).isEqualTo(2);
+        assertThat(pushedOut.suggest("o", 5)).isEmpty();
+    }
+
+    private static Map<String, Integer> counts(Object... destinationsAndCounts) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < destinationsAndCounts.length; i += 2) {
+            counts.put((String) destinationsAndCounts[i], (Integer) destinationsAndCounts[i + 1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,46 @@
+package com.corporate.travel.travel.model.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000),
+                UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057"));
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(BookingCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "bm8tc2VwYXJhdG9y"})
+    void rejectsTokensItDidNotProduce(String token) {
+        assertThatThrownBy(() -> BookingCursor.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTamperedFields() {
+        String badDate = encode("yesterday|01890a5d-ac96-774b-bcce-b302099a8057");
+        String badId = encode("2025-03-14T09:26:53|not-a-uuid");
+
+        assertThatThrownBy(() -> BookingCursor.decode(badDate)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BookingCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package com.corporate.travel.travel.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void generatesVersion7WithTheRfcVariant() {
+        UUID id = UuidV7.generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void generatesStrictlyIncreasingIds() {
+        UUID previous = UuidV7.generate();
+        // Far more than one millisecond's counter, so the counter borrows ahead too
+        for (int i = 0; i < 50_000; i++) {
+            UUID next = UuidV7.generate();
+            assertThat(next.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+            previous = next;
+        }
+    }
+
+    @Test
+    void encodesTheGenerationTime() {
+        Instant before = Instant.now();
+        UUID id = UuidV7.generate();
+
+        // The counter may borrow a few milliseconds ahead of the clock
+        assertThat(UuidV7.timestampOf(id))
+                .isAfterOrEqualTo(before.minusMillis(1))
+                .isBefore(Instant.now().plusSeconds(1));
+    }
+
+    @Test
+    void rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lowerBoundSortsBeforeIdsOfTheSameMillisecond() {
+        Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+        UUID bound = UuidV7.lowerBound(instant);
+        UUID sameMillisecond = new UUID(bound.getMostSignificantBits() | 0x0ABCL, -1L);
+
+        assertThat(bound.version()).isEqualTo(7);
+        assertThat(UuidV7.timestampOf(bound)).isEqualTo(instant);
+        assertThat(bound.getMostSignificantBits()).isLessThan(sameMillisecond.getMostSignificantBits());
+        assertThat(UuidV7.lowerBound(instant.minusMillis(1)).getMostSignificantBits())
+                .isLessThan(bound.getMostSignificantBits());
+    }
+}
@@ -0,0 +1,140 @@
+package com.corporate.travel.travel.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingOutboxRelayTest {
+
+    private static final UUID FIRST = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+    private static final UUID SECOND = UUID.fromString("01890a5d-ac97-7c4b-8cce-b302099a8058");
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final InMemoryBookingEventSink sink = new InMemoryBookingEventSink(100);
+    private final OutboxProperties properties = new OutboxProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+    }
+
+    @Test
+    void publishesClaimedEventsInOrderThenDeletesThem() {
+        jdbcTemplate.claimed = List.of(
+                event(1, FIRST, BookingChangeEvent.Type.BOOKING_CREATED),
+                event(2, SECOND, BookingChangeEvent.Type.BOOKING_CREATED),
+                event(3, FIRST, BookingChangeEvent.Type.BOOKING_STATUS_CHANGED));
+
+        int bookings = relay(sink).relayBatch();
+
+        assertThat(bookings).isEqualTo(2);
+        assertThat(sink.events()).extracting(BookingChangeEvent::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(jdbcTemplate.deletedIds).containsExactly(1L, 2L, 3L);
+        assertThat(transactionManager.commits).isEqualTo(1);
+    }
+
+    @Test
+    void doesNothingWhenNoEventIsPending() {
+        assertThat(relay(sink).relayBatch()).isZero();
+
+        assertThat(sink.events()).isEmpty();
+        assertThat(jdbcTemplate.deletedIds).isNull();
+    }
+
+    @Test
+    void keepsEventsWhenTheSinkFails() {
+        jdbcTemplate.claimed = List.of(event(1, FIRST, BookingChangeEvent.Type.BOOKING_CREATED));
+        BookingOutboxRelay relay = relay(events -> {
+            throw new IllegalStateException("broker unavailable");
+        });
+
+        assertThatThrownBy(relay::relayBatch).hasMessageContaining("broker unavailable");
+        assertThat(jdbcTemplate.deletedIds).isNull();
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+    }
+
+    private BookingOutboxRelay relay(BookingEventSink sink) {
+        return new BookingOutboxRelay(jdbcTemplate, transactionManager, sink, properties, new SimpleMeterRegistry());
+    }
+
+    private static BookingChangeEvent event(long sequence, UUID bookingId, BookingChangeEvent.Type type) {
+        return new BookingChangeEvent(sequence, type, bookingId, "tenant-a", LocalDateTime.now(), "{}");
+    }
+
+    /**
+     * Returns the configured claim and captures the ids passed to the delete
+     */
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+
+        private List<BookingChangeEvent> claimed = List.of();
+        private List<Long> deletedIds;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            return (List<T>) new ArrayList<>(claimed);
+        }
+
+        @Override
+        public int update(PreparedStatementCreator creator) {
+            Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "createArrayOf" -> {
+                            deletedIds = Arrays.stream((Object[]) args[1]).map(Long.class::cast).toList();
+                            yield null;
+                        }
+                        case "prepareStatement" -> Proxy.newProxyInstance(getClass().getClassLoader(),
+                                new Class<?>[]{PreparedStatement.class}, (statement, call, callArgs) -> null);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+            try {
+                creator.createPreparedStatement(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return deletedIds.size();
+        }
+    }
+
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.corporate.travel.travel.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that every combination of booking search filters is answered from an index
+ *
+ * For each of the 64 combinations the query the service issues is explained with
+ * sequential scans disabled and the non-search indexes dropped inside a rolled-back
+ * transaction; a plan that still needs a Seq Scan or a full primary key scan fails.
+ * The unfiltered search only has to avoid a Seq Scan. Runs when {@code BOOKINGS_DB_URL}
+ * is set (e.g. jdbc:postgresql://localhost:5432/corporate_travel with docker-compose,
+ * after load_sample_bookings.sh); {@code BOOKINGS_DB_USER}/{@code BOOKINGS_DB_PASSWORD}
+ * default to the local credentials. The DROP INDEX locks travel.bookings until the
+ * rollback, so point it at a local or test database only.
+ */
+class BookingSearchPlanTest {
+
+    private static final String DB_URL = System.getenv("BOOKINGS_DB_URL");
+    private static final String DB_USER = Objects.requireNonNullElse(System.getenv("BOOKINGS_DB_USER"), "admin");
+    private static final String DB_PASSWORD = Objects.requireNonNullElse(System.getenv("BOOKINGS_DB_PASSWORD"), "admin123");
+
+    /** Same predicates as BookingSpecifications, one per bit of the combination */
+    private static final List<Filter> FILTERS = List.of(
+            new Filter("destination", "lower(destination) LIKE 'mum%' ESCAPE '\\'"),
+            new Filter("travel", "start_date <= DATE '2025-07-31' AND end_date >= DATE '2025-07-01'"),
+            new Filter("statuses", "status IN ('CONFIRMED', 'PENDING')"),
+            new Filter("type", "booking_type = 'HOTEL'"),
+            new Filter("amount", "total_amount BETWEEN 3000 AND 20000"),
+            new Filter("details", "(details @> CAST('{\"hotel_name\": \"Taj\"}' AS jsonb)) = true"));
+
+    private static final String SELECT_SUMMARIES = """
+            SELECT id, tenant_id, user_id, booking_type, destination, start_date, end_date,
+                   status, total_amount, created_at
+            FROM travel.bookings
+            WHERE tenant_id = 'tenant-a'""";
+
+    private static final String NEWEST_FIRST = "ORDER BY created_at DESC, id DESC LIMIT 21";
+
+    private static final String DROP_NON_SEARCH_INDEXES = "DROP INDEX travel.idx_bookings_tenant, "
+            + "travel.idx_bookings_user, travel.idx_bookings_tenant_user_created";
+
+    @BeforeAll
+    static void analyze() throws SQLException {
+        if (!databaseConfigured()) {
+            return;
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE travel.bookings");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinations")
+    void searchIsServedByAnIndex(int mask) throws SQLException {
+        assumeTrue(databaseConfigured(), "BOOKINGS_DB_URL not set");
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARIES);
+        for (int bit = 0; bit < FILTERS.size(); bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                sql.append("\n  AND ").append(FILTERS.get(bit).predicate());
+            }
+        }
+        sql.append('\n').append(NEWEST_FIRST);
+
+        List<String> plan = explain(sql.toString(), mask != 0);
+
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan"));
+        if (mask != 0) {
+            assertThat(plan).noneMatch(line -> line.contains("_pkey"));
+        }
+    }
+
+    static Stream<Arguments> combinations() {
+        return IntStream.range(0, 1 << FILTERS.size())
+                .mapToObj(mask -> Arguments.of(Named.of(label(mask), mask)));
+    }
+
+    private static String label(int mask) {
+        StringJoiner names = new StringJoiner("+");
+        for (int bit = 0; bit < FILTERS.size(); bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                names.add(FILTERS.get(bit).name());
+            }
+        }
+        return mask == 0 ? "(no filters)" : names.toString();
+    }
+
+    private static List<String> explain(String sql, boolean dropNonSearchIndexes) throws SQLException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                if (dropNonSearchIndexes) {
+                    statement.execute(DROP_NON_SEARCH_INDEXES);
+                }
+                List<String> plan = new ArrayList<>();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+                return plan;
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static boolean databaseConfigured() {
+        return DB_URL != null && !DB_URL.isBlank();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+    }
+
+    private record Filter(String name, String predicate) {
+    }
+}
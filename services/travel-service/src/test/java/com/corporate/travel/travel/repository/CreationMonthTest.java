@@ -0,0 +1,32 @@
+package com.corporate.travel.travel.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreationMonthTest {
+
+    @Test
+    void startsAtTheBeginningOfTheMonthAndLeavesLaterRowsIn() {
+        CreationMonth month = CreationMonth.startingAt(LocalDateTime.of(2025, 7, 14, 9, 30));
+
+        assertThat(month.from()).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+        assertThat(month.to()).isNull();
+    }
+
+    @Test
+    void previousMonthEndsWhereTheNewerOneStarts() {
+        CreationMonth december = CreationMonth.startingAt(LocalDateTime.of(2025, 1, 31, 23, 59)).previous();
+
+        assertThat(december.from()).isEqualTo(LocalDateTime.of(2024, 12, 1, 0, 0));
+        assertThat(december.to()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(december.previous().to()).isEqualTo(december.from());
+    }
+
+    @Test
+    void readsTheMonthFromAPartitionName() {
+        assertThat(CreationMonth.startOfPartition("bookings_y2025m03")).isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+    }
+}
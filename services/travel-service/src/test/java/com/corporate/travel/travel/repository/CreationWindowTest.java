@@ -0,0 +1,40 @@
+package com.corporate.travel.travel.repository;
+
+import com.corporate.travel.travel.model.id.UuidV7;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreationWindowTest {
+
+    @Test
+    void coversTheCreationTimeOfANewBooking() {
+        UUID id = UuidV7.generate();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        CreationWindow window = CreationWindow.of(id).orElseThrow();
+
+        assertThat(createdAt).isBetween(window.from(), window.to());
+    }
+
+    @Test
+    void spansFromShortlyBeforeTheIdToADayAfter() {
+        UUID id = UuidV7.generate();
+        LocalDateTime generated = LocalDateTime.ofInstant(UuidV7.timestampOf(id), ZoneId.systemDefault());
+
+        CreationWindow window = CreationWindow.of(id).orElseThrow();
+
+        assertThat(Duration.between(window.from(), generated)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(Duration.between(generated, window.to())).isEqualTo(Duration.ofDays(1));
+    }
+
+    @Test
+    void isEmptyForIdsThatAreNotTimeOrdered() {
+        assertThat(CreationWindow.of(UUID.randomUUID())).isEmpty();
+    }
+}